@@ -0,0 +1,102 @@
+package com.services.benchmarks;
+
+import com.services.land_service.dto.LandSearchRequest;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.repository.LandKeyset.SortKey;
+import com.services.land_service.search.AvailableLandTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Browse filters over the columnar snapshot of available lands, at a few million rows:
+ * area range only, area + availability type, district (dictionary-encoded) + area,
+ * each returning the first page ordered by createdAt or id.
+ * The heap in use after setup is printed to show the footprint per row; {@code vectorized}
+ * compares the Vector API scans with the scalar ones, and only differs when land-service is built
+ * with its {@code vector} profile ({@code mvn -Pvector -pl benchmarks -am package}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "--add-modules", "jdk.incubator.vector"})
+public class AvailableLandSnapshotBenchmark {
+
+    private static final String[] PROVINCES = {"Kigali", "Northern", "Southern", "Eastern", "Western"};
+    private static final int DISTRICTS_PER_PROVINCE = 6;
+    private static final int SECTORS_PER_DISTRICT = 14;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000", "3000000"})
+    private int rows;
+
+    @Param({"true", "false"})
+    private boolean vectorized;
+
+    private AvailableLandTable table;
+    private LandSearchRequest areaOnly;
+    private LandSearchRequest areaAndType;
+    private LandSearchRequest districtAndArea;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        AvailabilityType[] types = AvailabilityType.values();
+        long now = 1_760_000_000_000_000L;
+
+        long heapBefore = usedHeap();
+        table = new AvailableLandTable(vectorized);
+        for (long id = 1; id <= rows; id++) {
+            int province = random.nextInt(PROVINCES.length);
+            int district = random.nextInt(DISTRICTS_PER_PROVINCE);
+            table.put(id,
+                    100 + Math.pow(random.nextDouble(), 3) * 999_900,
+                    types[random.nextInt(types.length)],
+                    PROVINCES[province],
+                    PROVINCES[province] + " District " + district,
+                    "Sector " + random.nextInt(SECTORS_PER_DISTRICT),
+                    now - random.nextLong(730L * 24 * 3600 * 1_000_000));
+        }
+        System.out.printf("%nSnapshot of %d rows: %.1f MB of heap%n", rows, (usedHeap() - heapBefore) / 1e6);
+
+        areaOnly = criteria(null, 5_000.0, 50_000.0, null);
+        areaAndType = criteria(AvailabilityType.SALE, 5_000.0, 50_000.0, null);
+        districtAndArea = criteria(null, 1_000.0, null, "southern district 3");
+    }
+
+    @Benchmark
+    public AvailableLandTable.Matches areaRangeNewestFirst() {
+        return table.query(areaOnly, SortKey.CREATED_AT, true, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public AvailableLandTable.Matches areaRangeAndTypeNewestFirst() {
+        return table.query(areaAndType, SortKey.CREATED_AT, true, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public AvailableLandTable.Matches districtAndAreaById() {
+        return table.query(districtAndArea, SortKey.ID, true, 0, PAGE_SIZE);
+    }
+
+    private static LandSearchRequest criteria(AvailabilityType type, Double minArea, Double maxArea, String district) {
+        LandSearchRequest criteria = new LandSearchRequest();
+        criteria.setAvailabilityType(type);
+        criteria.setMinArea(minArea);
+        criteria.setMaxArea(maxArea);
+        criteria.setDistrict(district);
+        criteria.setExactLocation(district != null);
+        return criteria;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
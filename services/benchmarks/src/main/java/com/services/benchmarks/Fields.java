@@ -0,0 +1,34 @@
+package com.services.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Wires the @Value fields and @PostConstruct hooks of service beans that are
+ * benchmarked outside a Spring context.
+ */
+final class Fields {
+
+    private Fields() {
+    }
+
+    static void set(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    static void invoke(Object target, String name) {
+        try {
+            Method method = target.getClass().getDeclaredMethod(name);
+            method.setAccessible(true);
+            method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot invoke " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.services.benchmarks;
+
+import com.services.land_service.dto.ApiResponse;
+import com.services.land_service.dto.LandResponse;
+import com.services.land_service.dto.LandSummaryResponse;
+import com.services.land_service.dto.PageResponse;
+import com.services.land_service.mapper.LandMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the land-service response envelopes, i.e. the body
+ * written for GET /api/lands (a page of summaries) and GET /api/lands/{id}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private ApiResponse<PageResponse<LandSummaryResponse>> page;
+    private ApiResponse<LandResponse> detail;
+
+    @Setup
+    public void setup() {
+        writer = JsonMapper.builder().build().writer();
+
+        LandMapper mapper = new LandMapper();
+        List<LandSummaryResponse> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(mapper.toSummaryResponse(LandFixtures.land(i + 1)));
+        }
+        PageResponse<LandSummaryResponse> pageResponse = PageResponse.from(
+                new PageImpl<>(content, PageRequest.of(0, pageSize), 25_000));
+
+        page = ApiResponse.success("Lands retrieved successfully", pageResponse);
+        detail = ApiResponse.success("Land retrieved successfully", mapper.toResponse(LandFixtures.land(1)));
+    }
+
+    @Benchmark
+    public byte[] summaryPage() {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] landDetail() {
+        return writer.writeValueAsBytes(detail);
+    }
+}
@@ -0,0 +1,41 @@
+package com.services.benchmarks;
+
+import com.services.land_service.entity.Land;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Representative lands for the mapping and serialization benchmarks.
+ */
+final class LandFixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private LandFixtures() {
+    }
+
+    static Land land(long id) {
+        Land land = new Land();
+        land.setId(id);
+        land.setOwnerId(1 + id % 500);
+        land.setProvince("Southern");
+        land.setDistrict("Huye");
+        land.setSector("Huye Sector " + (1 + id % 15));
+        land.setAreaSqMeters(100.0 + (id * 37) % 999900);
+        land.setAvailabilityType(id % 3 == 0 ? AvailabilityType.RENT : AvailabilityType.SALE);
+        land.setStatus(LandStatus.AVAILABLE);
+        land.setImageUrls(new ArrayList<>(List.of(
+                "https://cdn.example.com/lands/" + id + "/front.jpg",
+                "https://cdn.example.com/lands/" + id + "/aerial.jpg",
+                "https://cdn.example.com/lands/" + id + "/road.jpg")));
+        land.setDocumentUrls(new ArrayList<>(List.of(
+                "https://cdn.example.com/lands/" + id + "/title.pdf")));
+        land.setCreatedAt(CREATED_AT.plusMinutes(id));
+        land.setUpdatedAt(CREATED_AT.plusMinutes(id));
+        return land;
+    }
+}
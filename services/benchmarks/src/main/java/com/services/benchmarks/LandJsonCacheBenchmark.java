@@ -0,0 +1,107 @@
+package com.services.benchmarks;
+
+import com.services.land_service.cache.OffHeapBlockStore;
+import com.services.land_service.entity.Land;
+import com.services.land_service.mapper.LandMapper;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serving GET /api/lands/{id} for a random land of a large catalog: mapping and serializing
+ * per request, copying pre-encoded bytes kept on the heap, and copying them out of the
+ * off-heap blocks LandJsonCache uses. Each copies the body into a direct buffer the way
+ * Tomcat fills its socket buffer. Run with {@code -prof gc} for allocation and GC counts;
+ * the heap and direct memory held by each cache are printed after setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class LandJsonCacheBenchmark {
+
+    @Param({"200000"})
+    private int lands;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final LandMapper mapper = new LandMapper();
+    private final ByteBuffer socketBuffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    private ObjectWriter writer;
+    private Map<Long, Land> catalog;
+    private Map<Long, byte[]> onHeap;
+    private Map<Long, int[]> offHeapIndex;
+    private int[] offHeapLengths;
+    private OffHeapBlockStore store;
+
+    @Setup
+    public void setup() {
+        writer = JsonMapper.builder().build().writer();
+        catalog = new HashMap<>(lands * 2);
+        for (long id = 1; id <= lands; id++) {
+            catalog.put(id, LandFixtures.land(id));
+        }
+
+        long heapBefore = usedHeap();
+        onHeap = new HashMap<>(lands * 2);
+        for (long id = 1; id <= lands; id++) {
+            onHeap.put(id, writer.writeValueAsBytes(mapper.toResponse(catalog.get(id))));
+        }
+        long onHeapBytes = usedHeap() - heapBefore;
+
+        heapBefore = usedHeap();
+        store = new OffHeapBlockStore(512, 1 << 20, 1L << 30);
+        offHeapIndex = new HashMap<>(lands * 2);
+        offHeapLengths = new int[lands + 1];
+        for (long id = 1; id <= lands; id++) {
+            byte[] json = onHeap.get(id);
+            offHeapIndex.put(id, store.store(json, json.length));
+            offHeapLengths[(int) id] = json.length;
+        }
+        long offHeapIndexBytes = usedHeap() - heapBefore;
+
+        System.out.printf("%n%d lands: on-heap cache %d MB of heap; off-heap cache %d MB direct (%d MB in use) + %d MB of heap for the index%n",
+                lands, onHeapBytes >> 20, store.reservedBytes() >> 20, store.usedBytes() >> 20, offHeapIndexBytes >> 20);
+    }
+
+    @Benchmark
+    public int serializePerRequest() {
+        long id = nextId();
+        byte[] json = writer.writeValueAsBytes(mapper.toResponse(catalog.get(id)));
+        return socketBuffer.clear().put(json).position();
+    }
+
+    @Benchmark
+    public int onHeapBytes() {
+        long id = nextId();
+        return socketBuffer.clear().put(onHeap.get(id)).position();
+    }
+
+    @Benchmark
+    public int offHeapBlocks() throws Exception {
+        long id = nextId();
+        socketBuffer.clear();
+        store.writeTo(offHeapIndex.get(id), offHeapLengths[(int) id], socketBuffer::put);
+        return socketBuffer.position();
+    }
+
+    private long nextId() {
+        return 1 + random.nextInt(lands);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
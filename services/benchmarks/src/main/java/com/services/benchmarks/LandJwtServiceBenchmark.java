@@ -0,0 +1,65 @@
+package com.services.benchmarks;
+
+import com.services.land_service.security.JwtPrincipal;
+import com.services.land_service.security.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification as done by land-service's JwtAuthenticationFilter:
+ * three parses (email, userId, roles) versus the single-parse parsePrincipal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LandJwtServiceBenchmark {
+
+    static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtService = new JwtService();
+        Fields.set(jwtService, "secret", SECRET);
+        Fields.invoke(jwtService, "init");
+
+        // Same claims user-service puts in the token
+        token = Jwts.builder()
+                .subject("benchmark@example.com")
+                .claim("userId", 42L)
+                .claim("fullName", "Benchmark User")
+                .claim("roles", List.of("ROLE_LAND_OWNER", "ROLE_BUYER"))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+    }
+
+    @Benchmark
+    public void extractClaimsSeparately(Blackhole bh) {
+        bh.consume(jwtService.extractEmail(token));
+        bh.consume(jwtService.extractUserId(token));
+        bh.consume(jwtService.extractRoles(token));
+    }
+
+    @Benchmark
+    public JwtPrincipal parsePrincipal() {
+        return jwtService.parsePrincipal(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtService.validateToken(token);
+    }
+}
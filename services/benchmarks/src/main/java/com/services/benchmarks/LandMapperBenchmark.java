@@ -0,0 +1,57 @@
+package com.services.benchmarks;
+
+import com.services.land_service.dto.LandResponse;
+import com.services.land_service.dto.LandSummaryResponse;
+import com.services.land_service.entity.Land;
+import com.services.land_service.mapper.LandMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping for a detail view and for a full listing page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LandMapperBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final LandMapper mapper = new LandMapper();
+    private Land land;
+    private List<Land> page;
+
+    @Setup
+    public void setup() {
+        land = LandFixtures.land(1);
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(LandFixtures.land(i + 1));
+        }
+    }
+
+    @Benchmark
+    public LandResponse toResponse() {
+        return mapper.toResponse(land);
+    }
+
+    @Benchmark
+    public LandSummaryResponse toSummaryResponse() {
+        return mapper.toSummaryResponse(land);
+    }
+
+    @Benchmark
+    public void toSummaryPage(Blackhole bh) {
+        for (Land each : page) {
+            bh.consume(mapper.toSummaryResponse(each));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.services.benchmarks;
+
+import com.services.land_service.security.SecurityUtils;
+import com.services.land_service.security.UserAuthenticationToken;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Role checks against the authenticated user, as done on every owner-only land request.
+ * The checked role is the last authority, i.e. the worst case for the linear scan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityUtilsBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int authorityCount;
+
+    @Setup
+    public void setup() {
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>(authorityCount);
+        for (int i = 1; i < authorityCount; i++) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_EXTRA_" + i));
+        }
+        authorities.add(new SimpleGrantedAuthority("ROLE_LAND_OWNER"));
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UserAuthenticationToken("benchmark@example.com", 42L, null, authorities));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public boolean isLandOwner() {
+        return SecurityUtils.isLandOwner();
+    }
+
+    @Benchmark
+    public boolean hasMissingRole() {
+        return SecurityUtils.hasRole("ROLE_ADMIN");
+    }
+
+    @Benchmark
+    public Long currentUserId() {
+        return SecurityUtils.getCurrentUserId();
+    }
+}
@@ -0,0 +1,109 @@
+package com.services.benchmarks;
+
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.search.SpatialGrid;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Radius and bounding-box queries against the land spatial index at 1M parcels spread over
+ * Rwanda's extent, per search radius and grid cell size, plus the cost of moving one land.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SpatialIndexBenchmark {
+
+    private static final double MIN_LATITUDE = -2.84;
+    private static final double MAX_LATITUDE = -1.05;
+    private static final double MIN_LONGITUDE = 28.86;
+    private static final double MAX_LONGITUDE = 30.90;
+    private static final double METERS_PER_DEGREE = 111_195;
+    private static final int QUERY_POINTS = 1024;
+
+    private static final LandStatus[] STATUSES = LandStatus.values();
+    private static final AvailabilityType[] AVAILABILITY_TYPES = AvailabilityType.values();
+
+    @Param({"1000000"})
+    private int parcels;
+
+    @Param({"1", "5", "25"})
+    private double radiusKm;
+
+    @Param({"0.005", "0.01", "0.05"})
+    private double cellSizeDegrees;
+
+    private SpatialGrid grid;
+    private double[] queryLatitudes;
+    private double[] queryLongitudes;
+    private SplittableRandom random;
+    private int next;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(42);
+        grid = new SpatialGrid(cellSizeDegrees);
+        for (long id = 1; id <= parcels; id++) {
+            grid.put(id, latitude(), longitude(),
+                    STATUSES[random.nextInt(STATUSES.length)],
+                    AVAILABILITY_TYPES[random.nextInt(AVAILABILITY_TYPES.length)]);
+        }
+
+        queryLatitudes = new double[QUERY_POINTS];
+        queryLongitudes = new double[QUERY_POINTS];
+        for (int i = 0; i < QUERY_POINTS; i++) {
+            queryLatitudes[i] = latitude();
+            queryLongitudes[i] = longitude();
+        }
+    }
+
+    @Benchmark
+    public List<SpatialGrid.Hit> radius() {
+        int i = nextPoint();
+        return grid.withinRadius(queryLatitudes[i], queryLongitudes[i], radiusKm * 1000, null, null);
+    }
+
+    @Benchmark
+    public List<SpatialGrid.Hit> radiusAvailableForSale() {
+        int i = nextPoint();
+        return grid.withinRadius(queryLatitudes[i], queryLongitudes[i], radiusKm * 1000,
+                LandStatus.AVAILABLE, AvailabilityType.SALE);
+    }
+
+    /**
+     * Box with the radius as its half-width, so results are comparable with {@link #radius()}.
+     */
+    @Benchmark
+    public long[] box() {
+        int i = nextPoint();
+        double half = radiusKm * 1000 / METERS_PER_DEGREE;
+        return grid.withinBox(queryLatitudes[i] - half, queryLongitudes[i] - half,
+                queryLatitudes[i] + half, queryLongitudes[i] + half, LandStatus.AVAILABLE, null);
+    }
+
+    @Benchmark
+    public int moveLand() {
+        grid.put(1 + random.nextInt(parcels), latitude(), longitude(), LandStatus.AVAILABLE, AvailabilityType.SALE);
+        return grid.size();
+    }
+
+    private int nextPoint() {
+        next = (next + 1) & (QUERY_POINTS - 1);
+        return next;
+    }
+
+    private double latitude() {
+        return MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE);
+    }
+
+    private double longitude() {
+        return MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE);
+    }
+}
@@ -0,0 +1,109 @@
+package com.services.benchmarks;
+
+import com.services.user_service.entity.User;
+import com.services.user_service.entity.UserRole;
+import com.services.user_service.enums.Role;
+import com.services.user_service.security.JwtService;
+import com.services.user_service.security.ParsedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the original user-service JwtService code paths (key derived per call, token parsed
+ * once per extracted claim) with the precomputed key/parser and single-parse API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserJwtServiceBenchmark {
+
+    private static final String SECRET = LandJwtServiceBenchmark.SECRET;
+    private static final long EXPIRATION = 86400000L;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtService = new JwtService();
+        Fields.set(jwtService, "secret", SECRET);
+        Fields.set(jwtService, "expiration", EXPIRATION);
+        Fields.invoke(jwtService, "init");
+
+        user = new User();
+        user.setId(42L);
+        user.setEmail("benchmark@example.com");
+        user.setFullName("Benchmark User");
+        UserRole role = new UserRole();
+        role.setRole(Role.LAND_OWNER);
+        user.addRole(role);
+
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation") // the jjwt 0.11 builder API the service used before
+    public String generateBefore() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getId());
+        claims.put("fullName", user.getFullName());
+        claims.put("roles", user.getRoles().stream()
+                .map(userRole -> "ROLE_" + userRole.getRole().name())
+                .collect(Collectors.toList()));
+
+        return Jwts.builder()
+                .setClaims(claims)
+                .setSubject(user.getEmail())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .signWith(legacySignKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String generateAfter() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateBefore() {
+        // extractEmail in the filter, then extractEmail + extractExpiration in validateToken
+        String email = legacyClaims(token).getSubject();
+        String tokenEmail = legacyClaims(token).getSubject();
+        Date expiration = legacyClaims(token).getExpiration();
+        return tokenEmail.equals(email) && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public boolean validateAfter() {
+        ParsedToken parsed = jwtService.parse(token);
+        return jwtService.validateToken(parsed, parsed.getSubject());
+    }
+
+    @SuppressWarnings("deprecation") // the jjwt 0.11 parser API the service used before
+    private Claims legacyClaims(String jwt) {
+        return Jwts.parser()
+                .setSigningKey(legacySignKey())
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+
+    private Key legacySignKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes());
+    }
+}
@@ -0,0 +1,20 @@
+-- One-time upgrade for databases created while lands.id was an IDENTITY column: moves the
+-- pooled lands_seq past the ids already handed out.
+--
+--   psql -d landdb -f db/pooled-id-sequence.sql
+--
+-- Run it once, before the first land-service instance that draws ids from lands_seq starts.
+-- It must not run while such instances are up: one could call nextval between the read and the
+-- setval below, and the setval would then hand its id block out again. It only ever moves the
+-- sequence forward, so running it again on an upgraded database changes nothing.
+
+-- Same definition Hibernate would create (increment = allocationSize)
+CREATE SEQUENCE IF NOT EXISTS lands_seq START WITH 1 INCREMENT BY 50;
+
+BEGIN;
+-- Instances of the previous version keep inserting through the IDENTITY default meanwhile
+LOCK TABLE lands IN SHARE ROW EXCLUSIVE MODE;
+SELECT setval('lands_seq', max_id)
+FROM (SELECT MAX(id) AS max_id FROM lands) existing
+WHERE max_id > (SELECT last_value FROM lands_seq);
+COMMIT;
@@ -0,0 +1,15 @@
+-- One-time setup for the partial (contains) location matches of /api/lands/search:
+-- the pg_trgm extension and trigram indexes on the normalized location columns.
+--
+--   psql -d landdb -f db/trigram-search.sql
+--
+-- Run it once per database, after land-service has created the schema, as a role allowed to
+-- create extensions; it is safe to run again. It is not part of the startup schema script,
+-- which the service's own role runs on every start. Without it searches still work, by scanning lands.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- CONCURRENTLY: lands stays writable while the indexes are built
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_lands_province_trgm ON lands USING gin (province_normalized gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_lands_district_trgm ON lands USING gin (district_normalized gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_lands_sector_trgm ON lands USING gin (sector_normalized gin_trgm_ops);
@@ -0,0 +1,70 @@
+// Import throughput of the one-at-a-time path versus POST /api/lands/bulk.
+//
+//   k6 run -e TOKEN=<land owner jwt> -e MODE=single perf/bulk-import.js
+//   k6 run -e TOKEN=<land owner jwt> -e MODE=bulk   perf/bulk-import.js
+//
+// Both modes import PARCELS lands (default 10000) over VUS connections and report
+// rows_imported as a rate, i.e. rows/sec. Compare the two runs on the same database.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const TOKEN = __ENV.TOKEN;
+const MODE = __ENV.MODE || 'bulk';
+const PARCELS = parseInt(__ENV.PARCELS || '10000', 10);
+const CHUNK = parseInt(__ENV.CHUNK || '1000', 10);
+const VUS = parseInt(__ENV.VUS || '4', 10);
+
+const rowsImported = new Counter('rows_imported');
+
+const requestsNeeded = MODE === 'bulk' ? Math.ceil(PARCELS / CHUNK) : PARCELS;
+
+export const options = {
+    scenarios: {
+        import: {
+            executor: 'shared-iterations',
+            vus: Math.min(VUS, requestsNeeded),
+            iterations: requestsNeeded,
+            maxDuration: '30m',
+        },
+    },
+};
+
+const params = {
+    headers: {
+        'Content-Type': 'application/json',
+        Authorization: `Bearer ${TOKEN}`,
+    },
+};
+
+function parcel(n) {
+    return {
+        province: 'Southern',
+        district: 'Huye',
+        sector: `Huye Sector ${1 + (n % 15)}`,
+        areaSqMeters: 100 + (n * 37) % 999900,
+        availabilityType: 'SALE',
+    };
+}
+
+export default function () {
+    const iteration = __ITER + __VU * requestsNeeded;
+
+    if (MODE === 'bulk') {
+        const lands = [];
+        for (let i = 0; i < CHUNK; i++) {
+            lands.push(parcel(iteration * CHUNK + i));
+        }
+        const res = http.post(`${BASE_URL}/api/lands/bulk`, JSON.stringify({ lands }), params);
+        if (check(res, { 'bulk created': (r) => r.status === 201 })) {
+            rowsImported.add(res.json('succeeded'));
+        }
+    } else {
+        const res = http.post(`${BASE_URL}/api/lands`, JSON.stringify(parcel(iteration)), params);
+        if (check(res, { 'created': (r) => r.status === 201 })) {
+            rowsImported.add(1);
+        }
+    }
+}
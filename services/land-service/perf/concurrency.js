@@ -0,0 +1,86 @@
+// Read workload at 2k concurrent connections, to compare platform and virtual request threads.
+//
+//   VIRTUAL_THREADS_ENABLED=false java -jar target/land-service-*.jar   # then:
+//   k6 run -e RUN=platform perf/concurrency.js
+//   VIRTUAL_THREADS_ENABLED=true  java -jar target/land-service-*.jar   # then:
+//   k6 run -e RUN=virtual  perf/concurrency.js
+//
+// Seed the database with perf/generate-lands.sql first. Each run writes
+// concurrency-<RUN>.json with p50/p95/p99 per endpoint; compare the p99 columns.
+// With virtual threads, 503s from the concurrency limit are counted separately
+// (rejected) rather than as failures.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const RUN = __ENV.RUN || 'run';
+const CONNECTIONS = parseInt(__ENV.CONNECTIONS || '2000', 10);
+const MAX_ID = parseInt(__ENV.MAX_ID || '1000000', 10);
+
+const rejected = new Counter('rejected');
+
+export const options = {
+    scenarios: {
+        burst: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: CONNECTIONS },
+                { duration: '2m', target: CONNECTIONS },
+                { duration: '10s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{endpoint:detail}': ['p(99)>=0'],
+        'http_req_duration{endpoint:search}': ['p(99)>=0'],
+        'http_req_duration{endpoint:feed}': ['p(99)>=0'],
+    },
+};
+
+const districts = ['huye', 'gasabo', 'musanze', 'rubavu', 'nyagatare'];
+
+export default function () {
+    const pick = Math.random();
+    let res;
+
+    if (pick < 0.6) {
+        const id = 1 + Math.floor(Math.random() * MAX_ID);
+        res = http.get(`${BASE_URL}/api/lands/${id}`, { tags: { endpoint: 'detail' } });
+    } else if (pick < 0.85) {
+        const district = districts[Math.floor(Math.random() * districts.length)];
+        res = http.get(`${BASE_URL}/api/lands/search?district=${district}&status=AVAILABLE&size=20`,
+            { tags: { endpoint: 'search' } });
+    } else {
+        res = http.get(`${BASE_URL}/api/lands/feed?size=20`, { tags: { endpoint: 'feed' } });
+    }
+
+    if (res.status === 503) {
+        rejected.add(1);
+        return;
+    }
+    check(res, { 'ok or not found': (r) => r.status === 200 || r.status === 404 });
+}
+
+export function handleSummary(data) {
+    const row = (name) => {
+        const values = data.metrics[`http_req_duration{endpoint:${name}}`].values;
+        return { p50: values['p(50)'], p95: values['p(95)'], p99: values['p(99)'] };
+    };
+    const result = {
+        run: RUN,
+        connections: CONNECTIONS,
+        requests: data.metrics.http_reqs.values.count,
+        rejected: data.metrics.rejected ? data.metrics.rejected.values.count : 0,
+        detail: row('detail'),
+        search: row('search'),
+        feed: row('feed'),
+    };
+    return {
+        [`concurrency-${RUN}.json`]: JSON.stringify(result, null, 2),
+        stdout: JSON.stringify(result, null, 2) + '\n',
+    };
+}
@@ -0,0 +1,60 @@
+-- Repeatable synthetic dataset for land-service performance work.
+--
+--   psql -d landdb -v rows=3000000 -f perf/generate-lands.sql
+--
+-- The same seed always yields the same rows, so latency numbers are comparable
+-- between runs. Start land-service once beforehand so Hibernate creates the schema.
+
+\if :{?rows}
+\else
+  \set rows 1000000
+\endif
+
+SELECT setseed(0.42);
+
+BEGIN;
+
+CREATE TEMP TABLE perf_locations (province text, district text, sector text) ON COMMIT DROP;
+
+INSERT INTO perf_locations (province, district, sector)
+SELECT p.province, p.district, p.district || ' Sector ' || s.n
+FROM (VALUES
+          ('Kigali', 'Gasabo'), ('Kigali', 'Kicukiro'), ('Kigali', 'Nyarugenge'),
+          ('Northern', 'Musanze'), ('Northern', 'Burera'), ('Northern', 'Gicumbi'),
+          ('Northern', 'Rulindo'), ('Northern', 'Gakenke'),
+          ('Southern', 'Huye'), ('Southern', 'Nyanza'), ('Southern', 'Muhanga'),
+          ('Southern', 'Kamonyi'), ('Southern', 'Ruhango'), ('Southern', 'Nyamagabe'),
+          ('Southern', 'Nyaruguru'), ('Southern', 'Gisagara'),
+          ('Eastern', 'Rwamagana'), ('Eastern', 'Kayonza'), ('Eastern', 'Kirehe'),
+          ('Eastern', 'Ngoma'), ('Eastern', 'Nyagatare'), ('Eastern', 'Gatsibo'),
+          ('Eastern', 'Bugesera'),
+          ('Western', 'Rubavu'), ('Western', 'Rusizi'), ('Western', 'Nyamasheke'),
+          ('Western', 'Karongi'), ('Western', 'Rutsiro'), ('Western', 'Ngororero'),
+          ('Western', 'Nyabihu')
+     ) AS p(province, district)
+CROSS JOIN generate_series(1, 15) AS s(n);
+
+INSERT INTO lands (id, owner_id, province, district, sector,
+                   province_normalized, district_normalized, sector_normalized,
+                   area_sq_meters, availability_type, status, created_at, updated_at)
+SELECT nextval('lands_seq'),
+       1 + (random() * 50000)::bigint,
+       l.province, l.district, l.sector,
+       lower(l.province), lower(l.district), lower(l.sector),
+       round((100 + random() ^ 3 * 999900)::numeric, 2),
+       (ARRAY['SALE', 'RENT', 'HARVEST_SHARE', 'SALE_OR_RENT', 'ALL'])[1 + floor(random() * 5)::int],
+       (ARRAY['AVAILABLE', 'AVAILABLE', 'AVAILABLE', 'AVAILABLE', 'PENDING',
+              'SOLD', 'RENTED', 'UNDER_CONTRACT', 'WITHDRAWN'])[1 + floor(random() * 9)::int],
+       ts, ts
+FROM (
+    SELECT g,
+           1 + floor(random() * (SELECT count(*) FROM perf_locations))::int AS loc,
+           now() - (random() * interval '730 days') AS ts
+    FROM generate_series(1, :rows) AS g
+) r
+JOIN (SELECT row_number() OVER (ORDER BY province, district, sector) AS loc, * FROM perf_locations) l
+  ON l.loc = r.loc;
+
+COMMIT;
+
+ANALYZE lands;
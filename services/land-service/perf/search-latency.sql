@@ -0,0 +1,74 @@
+-- Latency report for the filter combinations supported by GET /api/lands/search.
+-- Each statement mirrors the SQL Hibernate issues for the page query (page 0, size 10,
+-- ORDER BY created_at DESC) and its count query.
+--
+--   psql -d landdb -f perf/generate-lands.sql -v rows=3000000
+--   psql -d landdb -f perf/search-latency.sql > search-latency-report.txt
+--
+-- Compare the "Execution Time" lines between runs; every plan should use an index scan
+-- (idx_lands_location, idx_lands_*_trgm, idx_lands_status_availability or idx_lands_area_id).
+
+\pset pager off
+\timing on
+
+\echo '== exact location (province + district + sector)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM lands
+WHERE province_normalized = 'southern' AND district_normalized = 'huye' AND sector_normalized = 'huye sector 3'
+ORDER BY created_at DESC LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM lands
+WHERE province_normalized = 'southern' AND district_normalized = 'huye' AND sector_normalized = 'huye sector 3';
+
+\echo '== exact location (province + district)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM lands
+WHERE province_normalized = 'southern' AND district_normalized = 'huye'
+ORDER BY created_at DESC LIMIT 10;
+
+\echo '== partial sector match'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM lands
+WHERE sector_normalized LIKE '%sector 12%' ESCAPE '\'
+ORDER BY created_at DESC LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM lands
+WHERE sector_normalized LIKE '%sector 12%' ESCAPE '\';
+
+\echo '== partial district match + status'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM lands
+WHERE district_normalized LIKE '%ngo%' ESCAPE '\' AND status = 'AVAILABLE'
+ORDER BY created_at DESC LIMIT 10;
+
+\echo '== status + availability type'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM lands
+WHERE status = 'AVAILABLE' AND availability_type = 'RENT'
+ORDER BY created_at DESC LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM lands
+WHERE status = 'AVAILABLE' AND availability_type = 'RENT';
+
+\echo '== area range'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM lands
+WHERE area_sq_meters BETWEEN 5000 AND 5500
+ORDER BY created_at DESC LIMIT 10;
+
+\echo '== location + status + availability type + area range'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM lands
+WHERE province_normalized = 'eastern' AND district_normalized = 'bugesera'
+  AND status = 'AVAILABLE' AND availability_type = 'SALE'
+  AND area_sq_meters BETWEEN 1000 AND 20000
+ORDER BY created_at DESC LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM lands
+WHERE province_normalized = 'eastern' AND district_normalized = 'bugesera'
+  AND status = 'AVAILABLE' AND availability_type = 'SALE'
+  AND area_sq_meters BETWEEN 1000 AND 20000;
@@ -0,0 +1,47 @@
+package com.services.land_service.cache;
+
+import com.services.land_service.dto.LandResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-local stand-in for the shared tier, used in tests and single-instance setups.
+ * Evicted lands keep an empty slot holding their version.
+ */
+@Component
+@ConditionalOnProperty(name = "application.land.cache.shared.type", havingValue = "in-memory")
+public class InMemorySharedLandCache implements SharedLandCache {
+
+    private record Slot(long version, LandResponse response) {
+    }
+
+    private final Map<Long, Slot> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<LandResponse> get(Long landId) {
+        Slot slot = entries.get(landId);
+        return slot == null ? Optional.empty() : Optional.ofNullable(slot.response());
+    }
+
+    @Override
+    public long version(Long landId) {
+        Slot slot = entries.get(landId);
+        return slot == null ? 0 : slot.version();
+    }
+
+    @Override
+    public boolean put(Long landId, long version, LandResponse response) {
+        Slot stored = entries.compute(landId, (id, slot) ->
+                (slot == null ? 0 : slot.version()) == version ? new Slot(version, response) : slot);
+        return stored != null && stored.response() == response;
+    }
+
+    @Override
+    public void evict(Long landId) {
+        entries.compute(landId, (id, slot) -> new Slot(slot == null ? 1 : slot.version() + 1, null));
+    }
+}
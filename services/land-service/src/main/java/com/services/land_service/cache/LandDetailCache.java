@@ -0,0 +1,128 @@
+package com.services.land_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.services.land_service.dto.LandResponse;
+import com.services.land_service.event.LandChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of land detail responses.
+ * Tier 1 is a size-bounded, TTL'd Caffeine cache (W-TinyLFU eviction) in this process;
+ * tier 2 is an optional {@link SharedLandCache} shared between replicas.
+ * Entries are evicted from both tiers once a transaction that changed the land commits; a load
+ * that raced such an eviction is not written back to the shared tier (see {@link SharedLandCache#put}).
+ */
+@Slf4j
+@Component
+public class LandDetailCache {
+
+    private final Cache<Long, LandResponse> local;
+    private final SharedLandCache shared;
+    private final Timer loadTimer;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+
+    public LandDetailCache(
+            ObjectProvider<SharedLandCache> sharedLandCache,
+            MeterRegistry meterRegistry,
+            @Value("${application.land.cache.detail.max-size:10000}") long maxSize,
+            @Value("${application.land.cache.detail.ttl:10m}") Duration ttl
+    ) {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.shared = sharedLandCache.getIfAvailable();
+
+        // No extra tags: Prometheus rejects cache.* meters whose tag keys differ from the token cache's
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "land.detail");
+
+        this.loadTimer = Timer.builder("land.detail.cache.load")
+                .description("Time to load a land detail from the database on a cache miss")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sharedHits = Counter.builder("land.detail.cache.requests")
+                .tags("tier", "shared", "result", "hit")
+                .register(meterRegistry);
+        this.sharedMisses = Counter.builder("land.detail.cache.requests")
+                .tags("tier", "shared", "result", "miss")
+                .register(meterRegistry);
+
+        Gauge.builder("land.detail.cache.hit.ratio", local, cache -> cache.stats().hitRate())
+                .tag("tier", "local")
+                .register(meterRegistry);
+        Gauge.builder("land.detail.cache.hit.ratio", this, LandDetailCache::sharedHitRatio)
+                .tag("tier", "shared")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached response, falling back to the shared tier and then to the loader.
+     */
+    public LandResponse get(Long landId, Supplier<LandResponse> loader) {
+        return local.get(landId, id -> loadThroughShared(id, loader));
+    }
+
+    /**
+     * Returns the locally cached response without loading it.
+     */
+    public Optional<LandResponse> peek(Long landId) {
+        return Optional.ofNullable(local.getIfPresent(landId));
+    }
+
+    public void evict(Long landId) {
+        local.invalidate(landId);
+        if (shared != null) {
+            shared.evict(landId);
+        }
+    }
+
+    // Before LandJsonCache, so a JSON miss after the change cannot be refilled from the stale detail
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLandChanged(LandChangedEvent event) {
+        log.debug("Evicting land {} from detail cache", event.getLandId());
+        evict(event.getLandId());
+    }
+
+    private LandResponse loadThroughShared(Long landId, Supplier<LandResponse> loader) {
+        if (shared != null) {
+            Optional<LandResponse> cached = shared.get(landId);
+            if (cached.isPresent()) {
+                sharedHits.increment();
+                return cached.get();
+            }
+            sharedMisses.increment();
+        }
+
+        // Read before loading: an eviction after this point makes the put below a no-op
+        long version = shared != null ? shared.version(landId) : 0;
+        LandResponse response = loadTimer.record(loader);
+        if (shared != null && response != null) {
+            shared.put(landId, version, response);
+        }
+        return response;
+    }
+
+    private double sharedHitRatio() {
+        double hits = sharedHits.count();
+        double total = hits + sharedMisses.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+}
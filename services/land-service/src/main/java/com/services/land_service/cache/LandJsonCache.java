@@ -0,0 +1,237 @@
+package com.services.land_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.services.land_service.dto.LandResponse;
+import com.services.land_service.event.LandChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Land detail responses kept as encoded JSON (optionally gzipped) in direct memory, so a hit
+ * is copied to the servlet output stream without mapping or serializing, and a large catalog
+ * adds no objects for the GC to trace beyond a small index entry per land.
+ * Entries are evicted once a transaction that changed the land commits, and expire after the
+ * detail cache TTL, which bounds how long a change made on another replica is served stale.
+ *
+ * <p>Entries are reference-counted: a response being written keeps its blocks from being
+ * reused even if the land is evicted meanwhile.
+ */
+@Component
+public class LandJsonCache {
+
+    private static final int SLAB_SIZE = 1 << 20;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean gzip;
+    private final OffHeapBlockStore store;
+    private final Cache<Long, Entry> entries;
+    private final Counter rejected;
+
+    public LandJsonCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${application.land.cache.json.enabled:true}") boolean enabled,
+            @Value("${application.land.cache.json.max-size:64MB}") DataSize maxSize,
+            @Value("${application.land.cache.json.block-size:512}") int blockSize,
+            @Value("${application.land.cache.json.gzip:false}") boolean gzip,
+            @Value("${application.land.cache.detail.ttl:10m}") Duration ttl
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzip = gzip;
+
+        // Eviction runs after the write that overflows, so the store gets some headroom over the cache bound
+        this.store = new OffHeapBlockStore(blockSize, SLAB_SIZE, maxSize.toBytes() + maxSize.toBytes() / 8);
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long landId, Entry entry) -> entry.blocks.length * blockSize)
+                .expireAfterWrite(ttl)
+                .removalListener((Long landId, Entry entry, RemovalCause cause) -> {
+                    if (entry != null) {
+                        entry.release();
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "land.json");
+        Gauge.builder("land.json.cache.direct.bytes", store, OffHeapBlockStore::reservedBytes)
+                .description("Direct memory reserved for encoded land responses")
+                .tag("state", "reserved")
+                .register(meterRegistry);
+        Gauge.builder("land.json.cache.direct.bytes", store, OffHeapBlockStore::usedBytes)
+                .description("Direct memory reserved for encoded land responses")
+                .tag("state", "used")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("land.json.cache.rejected")
+                .description("Encoded responses not cached because the direct memory budget was full")
+                .register(meterRegistry);
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    /**
+     * The encoded response, encoding the loaded one on a miss. Empty when the cache is disabled
+     * or has no room; otherwise the handle must be closed once the response is written.
+     */
+    public Optional<Encoded> get(Long landId, Supplier<LandResponse> loader) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        while (true) {
+            Entry entry = entries.get(landId, id -> encode(loader.get()));
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.retain()) {
+                return Optional.of(new Encoded(entry));
+            }
+            // Evicted and released between the lookup and retain(): the next lookup loads it again
+        }
+    }
+
+    /**
+     * When the cached land last changed, if it is cached.
+     */
+    public Optional<LocalDateTime> lastModified(Long landId) {
+        return Optional.ofNullable(entries.getIfPresent(landId)).map(entry -> entry.lastModified);
+    }
+
+    public void evict(Long landId) {
+        entries.invalidate(landId);
+    }
+
+    // After LandDetailCache, which the JSON is encoded from
+    @Order(2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLandChanged(LandChangedEvent event) {
+        evict(event.getLandId());
+    }
+
+    private Entry encode(LandResponse response) {
+        byte[] json = objectMapper.writeValueAsBytes(response);
+        byte[] encoded = gzip ? gzip(json) : json;
+
+        int[] blocks = store.store(encoded, encoded.length);
+        if (blocks == null) {
+            rejected.increment();
+            return null;
+        }
+        LocalDateTime lastModified = response.getUpdatedAt() != null ? response.getUpdatedAt() : response.getCreatedAt();
+        return new Entry(blocks, encoded.length, lastModified);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private final class Entry {
+
+        final int[] blocks;
+        final int length;
+        final LocalDateTime lastModified;
+        // One reference held by the cache, one per response being written
+        final AtomicInteger references = new AtomicInteger(1);
+
+        Entry(int[] blocks, int length, LocalDateTime lastModified) {
+            this.blocks = blocks;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        boolean retain() {
+            int count;
+            do {
+                count = references.get();
+                if (count == 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                store.free(blocks);
+            }
+        }
+    }
+
+    /**
+     * A retained cache entry; closing it lets its blocks be reused once the land is evicted.
+     */
+    public final class Encoded implements AutoCloseable {
+
+        private final Entry entry;
+        private boolean closed;
+
+        private Encoded(Entry entry) {
+            this.entry = entry;
+        }
+
+        public LocalDateTime lastModified() {
+            return entry.lastModified;
+        }
+
+        /**
+         * Writes the body and its content headers: the stored bytes as they are, or inflated
+         * when they are gzipped and the client does not accept gzip.
+         */
+        public void writeTo(HttpServletResponse response, boolean acceptsGzip) throws IOException {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            if (gzip && !acceptsGzip) {
+                try (InputStream json = new GZIPInputStream(store.inputStream(entry.blocks, entry.length))) {
+                    json.transferTo(response.getOutputStream());
+                }
+                return;
+            }
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            response.setContentLength(entry.length);
+            store.writeTo(entry.blocks, entry.length, response.getOutputStream()::write);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                entry.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.services.land_service.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed-size blocks carved out of direct ByteBuffer slabs, for byte payloads kept outside the
+ * Java heap. A payload is stored in as many blocks as it needs (not necessarily adjacent), so
+ * freed blocks can be reused by payloads of any size and the only waste is the tail of each
+ * payload's last block. Slabs are allocated on demand up to a fixed budget and never released.
+ *
+ * <p>Allocation and freeing are thread-safe. Reading a payload is too, as long as its blocks
+ * are not freed meanwhile: {@link LandJsonCache} reference-counts its entries for that.
+ */
+public final class OffHeapBlockStore {
+
+    /**
+     * Receives a payload one block-sized buffer at a time.
+     */
+    @FunctionalInterface
+    public interface BufferSink {
+        void write(ByteBuffer buffer) throws IOException;
+    }
+
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final int maxBlocks;
+    private final Lock lock = new ReentrantLock();
+
+    // Replaced, never modified, when a slab is added: readers index it without the lock
+    private volatile ByteBuffer[] slabs = new ByteBuffer[0];
+    private int[] freeBlocks = new int[0];
+    private int freeCount;
+    private int carvedBlocks;
+
+    public OffHeapBlockStore(int blockSize, int slabSize, long maxBytes) {
+        if (blockSize <= 0 || slabSize < blockSize) {
+            throw new IllegalArgumentException("Block size must be positive and at most the slab size");
+        }
+        this.blockSize = blockSize;
+        this.blocksPerSlab = slabSize / blockSize;
+        this.maxBlocks = (int) Math.min(maxBytes / blockSize, Integer.MAX_VALUE);
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+
+    public int blocksFor(int length) {
+        return (length + blockSize - 1) / blockSize;
+    }
+
+    /**
+     * Copies the first {@code length} bytes of {@code data} into free blocks and returns them,
+     * or null when the budget has no room left.
+     */
+    public int[] store(byte[] data, int length) {
+        int[] blocks = allocate(blocksFor(length));
+        if (blocks == null) {
+            return null;
+        }
+        for (int i = 0, offset = 0; i < blocks.length; i++, offset += blockSize) {
+            block(blocks[i]).put(data, offset, Math.min(blockSize, length - offset));
+        }
+        return blocks;
+    }
+
+    public void free(int[] blocks) {
+        lock.lock();
+        try {
+            for (int block : blocks) {
+                freeBlocks[freeCount++] = block;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Passes the payload to the sink block by block; the buffers are only valid during the call.
+     */
+    public void writeTo(int[] blocks, int length, BufferSink sink) throws IOException {
+        for (int i = 0, offset = 0; i < blocks.length; i++, offset += blockSize) {
+            sink.write(block(blocks[i]).limit(Math.min(blockSize, length - offset)));
+        }
+    }
+
+    public InputStream inputStream(int[] blocks, int length) {
+        return new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                if (position >= length) {
+                    return -1;
+                }
+                int value = block(blocks[position / blockSize]).get(position % blockSize) & 0xff;
+                position++;
+                return value;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int count) {
+                if (position >= length) {
+                    return -1;
+                }
+                int inBlock = position % blockSize;
+                int read = Math.min(count, Math.min(blockSize - inBlock, length - position));
+                block(blocks[position / blockSize]).get(inBlock, buffer, offset, read);
+                position += read;
+                return read;
+            }
+        };
+    }
+
+    /**
+     * Direct memory held by the slabs allocated so far.
+     */
+    public long reservedBytes() {
+        lock.lock();
+        try {
+            return (long) carvedBlocks * blockSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Direct memory in blocks currently holding a payload.
+     */
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return (long) (carvedBlocks - freeCount) * blockSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int[] allocate(int count) {
+        lock.lock();
+        try {
+            while (freeCount < count && carvedBlocks < maxBlocks) {
+                carveSlab();
+            }
+            if (freeCount < count) {
+                return null;
+            }
+            freeCount -= count;
+            return Arrays.copyOfRange(freeBlocks, freeCount, freeCount + count);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void carveSlab() {
+        int count = Math.min(blocksPerSlab, maxBlocks - carvedBlocks);
+        ByteBuffer[] grown = Arrays.copyOf(slabs, slabs.length + 1);
+        grown[slabs.length] = ByteBuffer.allocateDirect(count * blockSize);
+        slabs = grown;
+        if (freeBlocks.length < carvedBlocks + count) {
+            freeBlocks = Arrays.copyOf(freeBlocks, carvedBlocks + count);
+        }
+        for (int i = 0; i < count; i++) {
+            freeBlocks[freeCount++] = carvedBlocks + i;
+        }
+        carvedBlocks += count;
+    }
+
+    // A view of one block; slices are independent, so concurrent readers do not share a position
+    private ByteBuffer block(int block) {
+        return slabs[block / blocksPerSlab].slice((block % blocksPerSlab) * blockSize, blockSize);
+    }
+}
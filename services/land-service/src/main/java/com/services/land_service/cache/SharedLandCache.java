@@ -0,0 +1,28 @@
+package com.services.land_service.cache;
+
+import com.services.land_service.dto.LandResponse;
+
+import java.util.Optional;
+
+/**
+ * Second, optional cache tier shared between land-service replicas (e.g. Redis).
+ * Writes are compare-and-put against a per-land version that every eviction bumps
+ * (in Redis: INCR a version key on evict, check it in a script on put).
+ */
+public interface SharedLandCache {
+
+    Optional<LandResponse> get(Long landId);
+
+    /**
+     * The land's current version; read it before loading the land from the database.
+     */
+    long version(Long landId);
+
+    /**
+     * Stores the response unless the land was evicted since {@code version} was read, so a
+     * response loaded before another replica's change cannot be written back after its eviction.
+     */
+    boolean put(Long landId, long version, LandResponse response);
+
+    void evict(Long landId);
+}
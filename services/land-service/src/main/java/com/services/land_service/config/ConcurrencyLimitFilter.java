@@ -0,0 +1,122 @@
+package com.services.land_service.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of requests being processed at once.
+ * With virtual threads Tomcat no longer bounds concurrency (every connection gets its own thread),
+ * so without a cap a burst queues up inside Hikari until connection-timeout and fails there.
+ * Requests that cannot get a permit within the acquire timeout are rejected early with 503.
+ * An async request (e.g. a streamed export) holds its permit until the async processing completes.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "application.concurrency.limit.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${application.concurrency.limit.max-concurrent-requests:40}") int maxConcurrentRequests,
+            @Value("${application.concurrency.limit.acquire-timeout:2s}") Duration acquireTimeout
+    ) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+
+        this.rejected = Counter.builder("http.server.requests.rejected")
+                .description("Requests rejected because the concurrency limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.in.flight", permits,
+                        semaphore -> maxConcurrentRequests - semaphore.availablePermits())
+                .description("Requests currently holding a concurrency permit")
+                .register(meterRegistry);
+
+        log.info("Concurrency limit enabled: {} concurrent requests, {} ms acquire timeout",
+                maxConcurrentRequests, acquireTimeoutMillis);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Health checks must keep answering while the service is saturated
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!acquire()) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is busy, please retry later");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+            } else {
+                permits.release();
+            }
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // onComplete also follows a timeout or error, so the permit is released exactly once
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Not re-registered by startAsync() during an async dispatch: keep listening
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.services.land_service.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how many JDBC statements each request ran and how long they took, per endpoint:
+ * http.server.requests.jdbc.statements and http.server.requests.jdbc.time{method, uri}.
+ * The statements are collected by {@link JdbcStatementListener}.
+ *
+ * <p>Totals are taken when the request thread leaves the filter. For async requests that is
+ * when the handler returns, so work done afterwards on another thread, such as the queries of
+ * a streaming export, is not included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class JdbcRequestMetricsFilter extends OncePerRequestFilter {
+
+    private final Meter.MeterProvider<DistributionSummary> statements;
+    private final Meter.MeterProvider<Timer> time;
+
+    public JdbcRequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.statements = DistributionSummary.builder("http.server.requests.jdbc.statements")
+                .description("JDBC statements executed per request")
+                .baseUnit("statements")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .withRegistry(meterRegistry);
+        this.time = Timer.builder("http.server.requests.jdbc.time")
+                .description("Time spent executing JDBC statements per request")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        JdbcStatementListener.Totals totals = JdbcStatementListener.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            JdbcStatementListener.endRequest();
+
+            // Set once the request has been mapped; unmapped requests (404s) share one series
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            statements.withTags("method", request.getMethod(), "uri", uri).record(totals.statements);
+            time.withTags("method", request.getMethod(), "uri", uri).record(totals.nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.services.land_service.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener (hibernate.session.events.auto) that adds the count and duration of
+ * every JDBC statement and batch to the totals of the request running on the current thread.
+ * Statements outside a request thread, e.g. in scheduled jobs or the body of an async
+ * (StreamingResponseBody) response, are not counted.
+ */
+public class JdbcStatementListener implements SessionEventListener {
+
+    private static final ThreadLocal<Totals> CURRENT = new ThreadLocal<>();
+
+    private long statementStart;
+    private long batchStart;
+
+    static Totals beginRequest() {
+        Totals totals = new Totals();
+        CURRENT.set(totals);
+        return totals;
+    }
+
+    static void endRequest() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        Totals totals = CURRENT.get();
+        if (totals != null) {
+            totals.statements++;
+            totals.nanos += System.nanoTime() - start;
+        }
+    }
+
+    static final class Totals {
+
+        int statements;
+        long nanos;
+    }
+}
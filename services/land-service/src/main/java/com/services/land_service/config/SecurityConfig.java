@@ -32,11 +32,16 @@ public class SecurityConfig {
                         .requestMatchers("/configuration/**").permitAll()
                         .requestMatchers("/webjars/**").permitAll()
 
-                        // Actuator endpoints
+                        // Actuator endpoints, only served on the unpublished management port (management.server.port)
                         .requestMatchers("/actuator/**").permitAll()
 
+                        // Error dispatch, so public endpoints keep their 4xx/503 status instead of a 403
+                        .requestMatchers("/error").permitAll()
+
                         // Public land endpoints - anyone can view
                         .requestMatchers("/api/lands").permitAll()
+                        .requestMatchers("/api/lands/feed").permitAll()
+                        .requestMatchers("/api/lands/statistics").permitAll()
                         .requestMatchers("/api/lands/{id}").permitAll()
                         .requestMatchers("/api/lands/search/**").permitAll()
 
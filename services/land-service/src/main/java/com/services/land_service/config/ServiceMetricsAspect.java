@@ -0,0 +1,55 @@
+package com.services.land_service.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every LandService method as service.method{service, method, outcome, exception},
+ * with p50/p95/p99 and a percentile histogram for Prometheus.
+ * Ordered first so the time includes the transaction around the method, commit included.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    private final Meter.MeterProvider<Timer> timers;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.timers = Timer.builder("service.method")
+                .description("Time spent in service methods")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    @Around("execution(public * com.services.land_service.service.LandService+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = "SUCCESS";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "ERROR";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timers.withTags(
+                    "service", "LandService",
+                    "method", joinPoint.getSignature().getName(),
+                    "outcome", outcome,
+                    "exception", exception
+            ).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
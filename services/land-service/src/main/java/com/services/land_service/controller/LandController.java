@@ -1,28 +1,48 @@
 package com.services.land_service.controller;
 
+import com.services.land_service.cache.LandJsonCache;
 import com.services.land_service.dto.*;
+import com.services.land_service.entity.Land.AvailabilityType;
 import com.services.land_service.entity.Land.LandStatus;
 import com.services.land_service.security.SecurityUtils;
+import com.services.land_service.service.LandExportService;
 import com.services.land_service.service.LandService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
-@Slf4j
 @RestController
 @RequestMapping("/api/lands")
 @RequiredArgsConstructor
 public class LandController {
 
     private final LandService landService;
+    private final LandExportService landExportService;
+    private final LandJsonCache landJsonCache;
 
     /**
      * Create a new land
@@ -33,25 +53,63 @@ public class LandController {
     public ResponseEntity<LandResponse> createLand(
             @Valid @RequestBody CreateLandRequest request
     ) {
-        log.info("➡️  [CREATE LAND] Request received");
-
         Long currentUserId = SecurityUtils.getCurrentUserId();
-        log.info("👤 Authenticated user ID: {}", currentUserId);
-
-        log.info("📝 Land request payload: {}", request);
 
         LandResponse response = landService.createLand(request, currentUserId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
 
-        log.info("✅ Land created successfully with ID: {}", response.getId());
+    /**
+     * Create many lands in one transaction
+     * POST /api/lands/bulk
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('LAND_OWNER')")
+    public ResponseEntity<BulkOperationResponse> createLands(
+            @Valid @RequestBody BulkCreateLandRequest request) {
 
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+
+        BulkOperationResponse response = landService.createLands(request.getLands(), currentUserId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-
+    /**
+     * Land detail with a strong ETag (id + updatedAt) and Last-Modified.
+     * Revalidations are answered from the land's timestamp alone, before it is loaded and mapped;
+     * other requests are served from the pre-encoded JSON in the land JSON cache when it has room.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<LandResponse> getLandById(@PathVariable Long id) {
+    public ResponseEntity<LandResponse> getLandById(
+            @PathVariable Long id, WebRequest request, HttpServletResponse servletResponse) throws IOException {
+        boolean gzip = landJsonCache.isGzip() && acceptsGzip(request);
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            LocalDateTime lastModified = landJsonCache.lastModified(id)
+                    .orElseGet(() -> landService.getLandLastModified(id));
+            if (request.checkNotModified(landETag(id, lastModified, gzip), epochMillis(lastModified))) {
+                return null;
+            }
+        }
+
+        Optional<LandJsonCache.Encoded> cached = landJsonCache.get(id, () -> landService.getLandById(id));
+        if (cached.isPresent()) {
+            try (LandJsonCache.Encoded json = cached.get()) {
+                servletResponse.setHeader(HttpHeaders.ETAG, "\"" + landETag(id, json.lastModified(), gzip) + "\"");
+                servletResponse.setDateHeader(HttpHeaders.LAST_MODIFIED, epochMillis(json.lastModified()));
+                if (landJsonCache.isGzip()) {
+                    servletResponse.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                }
+                json.writeTo(servletResponse, gzip);
+            }
+            return null;
+        }
+
         LandResponse response = landService.getLandById(id);
-        return ResponseEntity.ok(response);
+        LocalDateTime lastModified = response.getUpdatedAt() != null ? response.getUpdatedAt() : response.getCreatedAt();
+        return ResponseEntity.ok()
+                .eTag(landETag(id, lastModified, false))
+                .lastModified(epochMillis(lastModified))
+                .body(response);
     }
 
     @GetMapping
@@ -68,11 +126,73 @@ public class LandController {
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<LandSummaryResponse> response = landService.getAllLands(pageable);
 
-        return ResponseEntity.ok(response);
+        return page(response.getContent(), response.getTotalElements(), response);
+    }
+
+    /**
+     * Cursor-paginated listing (no count query, constant cost for deep pages)
+     * GET /api/lands/feed?cursor=...
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<PageResponse<LandSummaryResponse>> getLandsFeed(
+            @ModelAttribute LandSearchRequest criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("ASC")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+
+        PageResponse<LandSummaryResponse> response = landService.getLandsFeed(
+                criteria, sortBy, direction, cursor, Math.min(Math.max(size, 1), 100), includeTotal);
+
+        // The approximate total is in the body, so it is part of the ETag
+        return page(response.getContent(), Objects.hash(response.getTotalElements(), response.getApproximateTotal()), response);
+    }
+
+    /**
+     * Stream the whole (filtered) inventory as NDJSON or CSV, optionally gzipped
+     * GET /api/lands/export?format=csv&gzip=true&status=AVAILABLE
+     */
+    @GetMapping("/export")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> exportLands(
+            @ModelAttribute LandSearchRequest criteria,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        LandExportService.Format exportFormat = LandExportService.Format.fromExtension(format)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unsupported export format: " + format + " (use ndjson or csv)"));
+
+        // Rows are written as they are read from the cursor; nothing is collected in memory
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                landExportService.export(criteria, exportFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                landExportService.export(criteria, exportFormat, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("lands." + exportFormat.getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('LAND_ONWER')")
+    @PreAuthorize("hasRole('LAND_OWNER')")
     public ResponseEntity<LandResponse> updateLand(
             @PathVariable Long id,
             @Valid @RequestBody UpdateLandRequest request) {
@@ -83,7 +203,7 @@ public class LandController {
     }
     
     @PatchMapping("/{id}/status")
-    @PreAuthorize("hasRole('LAND_ONWER')")
+    @PreAuthorize("hasRole('LAND_OWNER')")
     public ResponseEntity<LandResponse> updateLandStatus(
             @PathVariable Long id,
             @RequestParam LandStatus status) {
@@ -94,8 +214,24 @@ public class LandController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Change the status of many lands, reporting the outcome per land
+     * PATCH /api/lands/bulk/status
+     */
+    @PatchMapping("/bulk/status")
+    @PreAuthorize("hasRole('LAND_OWNER')")
+    public ResponseEntity<BulkOperationResponse> updateLandStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+
+        BulkOperationResponse response = landService.updateLandStatuses(
+                request.getLandIds(), request.getStatus(), currentUserId);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('LAND_ONWER')")
+    @PreAuthorize("hasRole('LAND_OWNER')")
     public ResponseEntity<Void> deleteLand(@PathVariable Long id) {
 
         Long currentUserId = SecurityUtils.getCurrentUserId();
@@ -104,6 +240,21 @@ public class LandController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Delete many lands, reporting the outcome per land
+     * POST /api/lands/bulk/delete
+     */
+    @PostMapping("/bulk/delete")
+    @PreAuthorize("hasRole('LAND_OWNER')")
+    public ResponseEntity<BulkOperationResponse> deleteLands(
+            @Valid @RequestBody BulkDeleteRequest request) {
+
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+
+        BulkOperationResponse response = landService.deleteLands(request.getLandIds(), currentUserId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/search/location")
     public ResponseEntity<Page<LandSummaryResponse>> searchLandsByLocation(
             @RequestParam(required = false) String province,
@@ -116,7 +267,72 @@ public class LandController {
         Page<LandSummaryResponse> response = landService.searchLandsByLocation(
                 province, district, sector, pageable);
 
-        return ResponseEntity.ok(response);
+        return page(response.getContent(), response.getTotalElements(), response);
+    }
+
+    /**
+     * Combined search over location, status, availability type and area range
+     * GET /api/lands/search
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<LandSummaryResponse>> searchLands(
+            @ModelAttribute LandSearchRequest criteria,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDir) {
+
+        Sort sort = sortDir.equalsIgnoreCase("ASC")
+                ? Sort.by(sortBy).ascending()
+                : Sort.by(sortBy).descending();
+
+        Pageable pageable = PageRequest.of(page, size, sort);
+        Page<LandSummaryResponse> response = landService.searchLands(criteria, pageable);
+
+        return page(response.getContent(), response.getTotalElements(), response);
+    }
+
+    /**
+     * Lands within radiusKm of a point, nearest first, served by the in-memory spatial index
+     * GET /api/lands/search/nearby?lat=-1.95&lon=30.06&radiusKm=5&status=AVAILABLE
+     */
+    @GetMapping("/search/nearby")
+    public ResponseEntity<Page<LandSummaryResponse>> searchLandsNearby(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam double radiusKm,
+            @RequestParam(required = false) LandStatus status,
+            @RequestParam(required = false) AvailabilityType availabilityType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<LandSummaryResponse> response = landService.searchLandsNearby(
+                lat, lon, radiusKm, status, availabilityType, pageable);
+
+        return page(response.getContent(), response.getTotalElements(), response);
+    }
+
+    /**
+     * Lands inside a bounding box, newest first, served by the in-memory spatial index
+     * GET /api/lands/search/bbox?minLat=-2.0&minLon=29.9&maxLat=-1.9&maxLon=30.1
+     */
+    @GetMapping("/search/bbox")
+    public ResponseEntity<Page<LandSummaryResponse>> searchLandsInBox(
+            @RequestParam double minLat,
+            @RequestParam double minLon,
+            @RequestParam double maxLat,
+            @RequestParam double maxLon,
+            @RequestParam(required = false) LandStatus status,
+            @RequestParam(required = false) AvailabilityType availabilityType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<LandSummaryResponse> response = landService.searchLandsInBox(
+                minLat, minLon, maxLat, maxLon, status, availabilityType, pageable);
+
+        return page(response.getContent(), response.getTotalElements(), response);
     }
 
     @GetMapping("/status/{status}")
@@ -128,6 +344,19 @@ public class LandController {
         Pageable pageable = PageRequest.of(page, size);
         Page<LandSummaryResponse> response = landService.getLandsByStatus(status, pageable);
 
+        return page(response.getContent(), response.getTotalElements(), response);
+    }
+
+    /**
+     * Listing counts and total area by province, district, status and availability type
+     * GET /api/lands/statistics?status=AVAILABLE
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<LandStatisticsResponse> getStatistics(
+            @RequestParam(required = false) LandStatus status,
+            @RequestParam(required = false) AvailabilityType availabilityType) {
+
+        LandStatisticsResponse response = landService.getStatistics(status, availabilityType);
         return ResponseEntity.ok(response);
     }
 
@@ -142,11 +371,11 @@ public class LandController {
         Page<LandSummaryResponse> response = landService.getLandsByAreaRange(
                 minArea, maxArea, pageable);
 
-        return ResponseEntity.ok(response);
+        return page(response.getContent(), response.getTotalElements(), response);
     }
 
     @PostMapping("/{id}/images")
-    @PreAuthorize("hasRole('LAND_ONWER')")
+    @PreAuthorize("hasRole('LAND_OWNER')")
     public ResponseEntity<LandResponse> addImages(
             @PathVariable Long id,
             @Valid @RequestBody UploadImagesRequest request) {
@@ -192,4 +421,45 @@ public class LandController {
         LandResponse response = landService.removeDocument(id, documentUrl, currentUserId);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * A listing page with a strong ETag: the ids on the page and their newest updatedAt identify
+     * its content, the total covers lands added or removed elsewhere in the listing. The 304 for a
+     * matching If-None-Match is sent by Spring MVC, so an unchanged page costs its query but no body.
+     */
+    private static <T> ResponseEntity<T> page(List<LandSummaryResponse> lands, long total, T body) {
+        long ids = total;
+        LocalDateTime newest = LocalDateTime.MIN;
+        for (LandSummaryResponse land : lands) {
+            ids = 31 * ids + land.getId();
+            LocalDateTime modified = land.getUpdatedAt() != null ? land.getUpdatedAt() : land.getCreatedAt();
+            if (modified != null && modified.isAfter(newest)) {
+                newest = modified;
+            }
+        }
+        String newestMicros = lands.isEmpty() ? "0" : Long.toString(epochMicros(newest));
+        return ResponseEntity.ok()
+                .eTag(Long.toHexString(ids) + "-" + newestMicros)
+                .body(body);
+    }
+
+    // The gzipped body is a different representation, so it gets its own strong ETag
+    private static String landETag(Long id, LocalDateTime lastModified, boolean gzip) {
+        return id + "-" + epochMicros(lastModified) + (gzip ? "-gzip" : "");
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    // Postgres keeps microseconds: two changes of a land never share an ETag
+    private static long epochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    // updatedAt is written with the JVM's clock in its default zone
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,27 @@
+package com.services.land_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for creating many land listings in one request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateLandRequest {
+
+    @NotNull(message = "Lands cannot be null")
+    @NotEmpty(message = "At least one land is required")
+    @Size(max = 1000, message = "Cannot create more than 1000 lands at once")
+    private List<@Valid CreateLandRequest> lands;
+}
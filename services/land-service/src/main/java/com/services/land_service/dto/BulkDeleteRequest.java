@@ -0,0 +1,26 @@
+package com.services.land_service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for deleting many lands at once
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkDeleteRequest {
+
+    @NotNull(message = "Land IDs cannot be null")
+    @NotEmpty(message = "At least one land ID is required")
+    @Size(max = 1000, message = "Cannot delete more than 1000 lands at once")
+    private List<@NotNull Long> landIds;
+}
@@ -0,0 +1,60 @@
+package com.services.land_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk land operation, with one entry per requested item (in request order)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOperationResponse {
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        DELETED,
+        NOT_FOUND,
+        FORBIDDEN
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemResult {
+
+        private int index;
+
+        private Long landId;
+
+        private Outcome outcome;
+    }
+
+    private int requested;
+
+    private int succeeded;
+
+    private int failed;
+
+    private List<ItemResult> results;
+
+    public static BulkOperationResponse of(List<ItemResult> results) {
+        int failed = (int) results.stream()
+                .filter(result -> result.getOutcome() == Outcome.NOT_FOUND || result.getOutcome() == Outcome.FORBIDDEN)
+                .count();
+
+        return BulkOperationResponse.builder()
+                .requested(results.size())
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.services.land_service.dto;
+
+import com.services.land_service.entity.Land.LandStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for changing the status of many lands at once
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusUpdateRequest {
+
+    @NotNull(message = "Land IDs cannot be null")
+    @NotEmpty(message = "At least one land ID is required")
+    @Size(max = 1000, message = "Cannot update more than 1000 lands at once")
+    private List<@NotNull Long> landIds;
+
+    @NotNull(message = "Status is required")
+    private LandStatus status;
+}
@@ -1,5 +1,6 @@
 package com.services.land_service.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.services.land_service.entity.Land.AvailabilityType;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -35,4 +36,18 @@ public class CreateLandRequest {
 
     @NotNull(message = "Availability type is required")
     private AvailabilityType availabilityType;
+
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
+    @JsonIgnore
+    @AssertTrue(message = "Latitude and longitude must be given together")
+    public boolean isCoordinatePairComplete() {
+        return (latitude == null) == (longitude == null);
+    }
 }
\ No newline at end of file
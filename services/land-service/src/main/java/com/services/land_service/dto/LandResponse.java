@@ -29,6 +29,10 @@ public class LandResponse {
 
     private Double areaSqMeters;
 
+    private Double latitude;
+
+    private Double longitude;
+
     private AvailabilityType availabilityType;
 
     private LandStatus status;
@@ -0,0 +1,39 @@
+package com.services.land_service.dto;
+
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters for the combined land search.
+ * Every field is optional; the ones provided are combined with AND.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LandSearchRequest {
+
+    private String province;
+
+    private String district;
+
+    private String sector;
+
+    private LandStatus status;
+
+    private AvailabilityType availabilityType;
+
+    private Double minArea;
+
+    private Double maxArea;
+
+    /**
+     * When true, location values must match exactly (case-insensitive) and use the
+     * composite location index; otherwise they are partial matches served by the trigram indexes.
+     */
+    private boolean exactLocation;
+}
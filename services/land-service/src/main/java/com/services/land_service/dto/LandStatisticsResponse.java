@@ -0,0 +1,65 @@
+package com.services.land_service.dto;
+
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Listing counts and total area of the lands, overall and broken down by location, status
+ * and availability type. Location names are the normalized (trimmed, lower-case) ones.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LandStatisticsResponse {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Totals {
+
+        private long landCount;
+
+        private double totalAreaSqMeters;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class LocationTotals {
+
+        private String province;
+
+        // Null in the per-province breakdown
+        private String district;
+
+        private long landCount;
+
+        private double totalAreaSqMeters;
+    }
+
+    private long landCount;
+
+    private double totalAreaSqMeters;
+
+    private List<LocationTotals> byProvince;
+
+    private List<LocationTotals> byDistrict;
+
+    private Map<LandStatus, Totals> byStatus;
+
+    private Map<AvailabilityType, Totals> byAvailabilityType;
+
+    // Last time the counters were checked against the lands table; null until the first check
+    private LocalDateTime reconciledAt;
+}
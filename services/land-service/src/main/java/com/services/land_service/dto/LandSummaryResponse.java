@@ -33,10 +33,17 @@ public class LandSummaryResponse {
 
     private Double areaSqMeters;
 
+    private Double latitude;
+
+    private Double longitude;
+
     private AvailabilityType availabilityType;
 
     private LandStatus status;
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
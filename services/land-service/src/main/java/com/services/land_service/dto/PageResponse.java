@@ -32,6 +32,18 @@ public class PageResponse<T> {
 
     private boolean hasPrevious;
 
+    /**
+     * Opaque position to pass back as {@code cursor} for the next page.
+     * Only set in cursor form; null when there are no more rows.
+     */
+    private String nextCursor;
+
+    /**
+     * Row estimate from table statistics, only set in cursor form when requested.
+     * Cursor pages never run a count query, so totalElements and totalPages stay unset.
+     */
+    private Long approximateTotal;
+
     public static <T> PageResponse<T> from(Page<T> page) {
         return PageResponse.<T>builder()
                 .content(page.getContent())
@@ -45,4 +57,18 @@ public class PageResponse<T> {
                 .hasPrevious(page.hasPrevious())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static <T> PageResponse<T> fromCursor(List<T> content, int pageSize, boolean first,
+                                                 String nextCursor, Long approximateTotal) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .pageSize(pageSize)
+                .isFirst(first)
+                .isLast(nextCursor == null)
+                .hasNext(nextCursor != null)
+                .hasPrevious(!first)
+                .nextCursor(nextCursor)
+                .approximateTotal(approximateTotal)
+                .build();
+    }
+}
@@ -7,9 +7,15 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 @Entity
-@Table(name = "lands")
+@Table(name = "lands", indexes = {
+        @Index(name = "idx_lands_location", columnList = "province_normalized, district_normalized, sector_normalized"),
+        @Index(name = "idx_lands_status_availability", columnList = "status, availability_type"),
+        @Index(name = "idx_lands_area_id", columnList = "area_sq_meters, id"),
+        @Index(name = "idx_lands_created_at_id", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -34,8 +40,10 @@ public class Land {
         WITHDRAWN
     }
 
+    // Pooled sequence instead of IDENTITY so inserts can be JDBC-batched (one nextval per 50 rows)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lands_seq")
+    @SequenceGenerator(name = "lands_seq", sequenceName = "lands_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -50,6 +58,23 @@ public class Land {
     @Column(name = "sector")
     private String sector;
 
+    // Lower-cased copies of the location columns, indexed for search (btree + trigram)
+    @Column(name = "province_normalized")
+    private String provinceNormalized;
+
+    @Column(name = "district_normalized")
+    private String districtNormalized;
+
+    @Column(name = "sector_normalized")
+    private String sectorNormalized;
+
+    // WGS84 degrees; optional, lands without coordinates are not found by proximity search
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "area_sq_meters", nullable = false)
     private Double areaSqMeters;
 
@@ -61,12 +86,12 @@ public class Land {
     @Column(nullable = false, length = 50)
     private LandStatus status = LandStatus.AVAILABLE;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "land_images", joinColumns = @JoinColumn(name = "land_id"))
     @Column(name = "image_url")
     private List<String> imageUrls = new ArrayList<>();
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "land_documents", joinColumns = @JoinColumn(name = "land_id"))
     @Column(name = "document_url")
     private List<String> documentUrls = new ArrayList<>();
@@ -78,5 +103,16 @@ public class Land {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
-}
 
+    @PrePersist
+    @PreUpdate
+    void normalizeLocation() {
+        provinceNormalized = normalize(province);
+        districtNormalized = normalize(district);
+        sectorNormalized = normalize(sector);
+    }
+
+    public static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
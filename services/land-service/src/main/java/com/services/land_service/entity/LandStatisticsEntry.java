@@ -0,0 +1,95 @@
+package com.services.land_service.entity;
+
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+
+/**
+ * Persisted copy of one statistics bucket (normalized province and district, status,
+ * availability type), so a restart starts from the last saved counters instead of
+ * aggregating the lands table.
+ */
+@Entity
+@Table(name = "land_statistics")
+@Getter
+@NoArgsConstructor
+public class LandStatisticsEntry implements Persistable<LandStatisticsEntry.Key> {
+
+    @Embeddable
+    public record Key(
+            @Column(name = "province", nullable = false)
+            String province,
+
+            @Column(name = "district", nullable = false)
+            String district,
+
+            @Enumerated(EnumType.STRING)
+            @Column(name = "status", nullable = false, length = 50)
+            LandStatus status,
+
+            @Enumerated(EnumType.STRING)
+            @Column(name = "availability_type", nullable = false, length = 50)
+            AvailabilityType availabilityType
+    ) implements Serializable {
+
+        /**
+         * Location names are normalized like the lands' search columns; a missing one becomes "".
+         */
+        public static Key of(String province, String district, LandStatus status, AvailabilityType availabilityType) {
+            return new Key(orEmpty(Land.normalize(province)), orEmpty(Land.normalize(district)), status, availabilityType);
+        }
+
+        private static String orEmpty(String value) {
+            return value == null ? "" : value;
+        }
+    }
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "land_count", nullable = false)
+    private long landCount;
+
+    @Column(name = "total_area_sq_meters", nullable = false)
+    private double totalAreaSqMeters;
+
+    // Entries are always rewritten as a whole: without this, saveAll would SELECT each one first
+    @Transient
+    private boolean persisted;
+
+    public LandStatisticsEntry(Key key, long landCount, double totalAreaSqMeters) {
+        this.key = key;
+        this.landCount = landCount;
+        this.totalAreaSqMeters = totalAreaSqMeters;
+    }
+
+    /**
+     * Used by the GROUP BY that reconciles the counters with the lands table.
+     */
+    public LandStatisticsEntry(String province, String district, LandStatus status, AvailabilityType availabilityType,
+                               long landCount, Double totalAreaSqMeters) {
+        this(Key.of(province, district, status, availabilityType), landCount,
+                totalAreaSqMeters == null ? 0 : totalAreaSqMeters);
+    }
+
+    @Override
+    public Key getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -0,0 +1,48 @@
+package com.services.land_service.event;
+
+import com.services.land_service.entity.Land;
+import lombok.Value;
+
+/**
+ * Published by LandServiceImpl whenever a land is created, modified or deleted.
+ * Listeners that keep derived state (caches, read models, statistics) react to it after commit.
+ */
+@Value
+public class LandChangedEvent {
+
+    Long landId;
+
+    /**
+     * State of the land before the change; null when it was created.
+     */
+    LandSnapshot previous;
+
+    /**
+     * State of the land after the change; null when it was deleted.
+     */
+    LandSnapshot current;
+
+    public static LandChangedEvent created(Land land) {
+        return created(LandSnapshot.of(land));
+    }
+
+    public static LandChangedEvent created(LandSnapshot snapshot) {
+        return new LandChangedEvent(snapshot.id(), null, snapshot);
+    }
+
+    public static LandChangedEvent changed(LandSnapshot previous, Land land) {
+        return changed(previous, LandSnapshot.of(land));
+    }
+
+    public static LandChangedEvent changed(LandSnapshot previous, LandSnapshot current) {
+        return new LandChangedEvent(current.id(), previous, current);
+    }
+
+    public static LandChangedEvent deleted(LandSnapshot previous) {
+        return new LandChangedEvent(previous.id(), previous, null);
+    }
+
+    public boolean isDeleted() {
+        return current == null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.services.land_service.event;
+
+import com.services.land_service.entity.Land;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The searchable attributes of a land as committed by a write, so read models can apply
+ * the change without reading the land back (no images or documents).
+ */
+public record LandSnapshot(
+        Long id,
+        String province,
+        String district,
+        String sector,
+        Double areaSqMeters,
+        Double latitude,
+        Double longitude,
+        AvailabilityType availabilityType,
+        LandStatus status,
+        LocalDateTime createdAt
+) {
+
+    public static LandSnapshot of(Land land) {
+        return new LandSnapshot(
+                land.getId(),
+                land.getProvince(),
+                land.getDistrict(),
+                land.getSector(),
+                land.getAreaSqMeters(),
+                land.getLatitude(),
+                land.getLongitude(),
+                land.getAvailabilityType(),
+                land.getStatus(),
+                land.getCreatedAt()
+        );
+    }
+
+    public LandSnapshot withStatus(LandStatus status) {
+        return new LandSnapshot(id, province, district, sector, areaSqMeters, latitude, longitude,
+                availabilityType, status, createdAt);
+    }
+
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+}
@@ -5,6 +5,8 @@ import com.services.land_service.dto.LandSummaryResponse;
 import com.services.land_service.entity.Land;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+
 @Component
 public class LandMapper {
 
@@ -20,10 +22,13 @@ public class LandMapper {
         response.setDistrict(land.getDistrict());
         response.setSector(land.getSector());
         response.setAreaSqMeters(land.getAreaSqMeters());
+        response.setLatitude(land.getLatitude());
+        response.setLongitude(land.getLongitude());
         response.setAvailabilityType(land.getAvailabilityType());
         response.setStatus(land.getStatus());
-        response.setImageUrls(land.getImageUrls());
-        response.setDocumentUrls(land.getDocumentUrls());
+        // Copy out of Hibernate's collection wrappers so the response can outlive the session (it is cached)
+        response.setImageUrls(land.getImageUrls() != null ? new ArrayList<>(land.getImageUrls()) : null);
+        response.setDocumentUrls(land.getDocumentUrls() != null ? new ArrayList<>(land.getDocumentUrls()) : null);
         response.setCreatedAt(land.getCreatedAt());
         response.setUpdatedAt(land.getUpdatedAt());
 
@@ -42,9 +47,12 @@ public class LandMapper {
         response.setDistrict(land.getDistrict());
         response.setSector(land.getSector());
         response.setAreaSqMeters(land.getAreaSqMeters());
+        response.setLatitude(land.getLatitude());
+        response.setLongitude(land.getLongitude());
         response.setAvailabilityType(land.getAvailabilityType());
         response.setStatus(land.getStatus());
         response.setCreatedAt(land.getCreatedAt());
+        response.setUpdatedAt(land.getUpdatedAt());
 
         return response;
     }
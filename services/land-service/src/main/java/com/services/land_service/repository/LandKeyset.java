@@ -0,0 +1,127 @@
+package com.services.land_service.repository;
+
+import com.services.land_service.dto.LandSummaryResponse;
+import com.services.land_service.entity.Land;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset (seek) pagination over lands.
+ * Rows are ordered by (sort key, id) and a page continues strictly after the last row
+ * of the previous one, so deep pages cost the same as the first and need no count query.
+ */
+public final class LandKeyset {
+
+    public enum SortKey {
+        CREATED_AT("createdAt"),
+        AREA("areaSqMeters"),
+        ID("id");
+
+        private final String attribute;
+
+        SortKey(String attribute) {
+            this.attribute = attribute;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        public static SortKey fromAttribute(String attribute) {
+            for (SortKey key : values()) {
+                if (key.attribute.equals(attribute)) {
+                    return key;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported sort key for cursor pagination: " + attribute);
+        }
+    }
+
+    /**
+     * Decoded position of the last row returned.
+     */
+    public record Cursor(SortKey sortKey, Sort.Direction direction, String value, Long id) {
+    }
+
+    private LandKeyset() {
+    }
+
+    public static Sort sort(SortKey sortKey, Sort.Direction direction) {
+        if (sortKey == SortKey.ID) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, sortKey.getAttribute()).and(Sort.by(direction, "id"));
+    }
+
+    public static String encode(LandSummaryResponse last, SortKey sortKey, Sort.Direction direction) {
+        String value = switch (sortKey) {
+            case CREATED_AT -> last.getCreatedAt().toString();
+            case AREA -> last.getAreaSqMeters().toString();
+            case ID -> last.getId().toString();
+        };
+        String raw = sortKey.name() + "|" + direction.name() + "|" + value + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            Cursor decoded = new Cursor(
+                    SortKey.valueOf(parts[0]),
+                    Sort.Direction.valueOf(parts[1]),
+                    parts[2],
+                    Long.valueOf(parts[3])
+            );
+            // Parse the value now, so a tampered one is rejected here rather than while building the query
+            switch (decoded.sortKey()) {
+                case CREATED_AT -> LocalDateTime.parse(decoded.value());
+                case AREA -> Double.valueOf(decoded.value());
+                case ID -> Long.valueOf(decoded.value());
+            }
+            return decoded;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Restricts the query to rows that sort strictly after the cursor.
+     */
+    public static Specification<Land> after(Cursor cursor) {
+        return (root, query, cb) -> {
+            boolean ascending = cursor.direction().isAscending();
+            Path<Long> id = root.get("id");
+
+            return switch (cursor.sortKey()) {
+                case CREATED_AT -> seek(cb, root.get("createdAt"), LocalDateTime.parse(cursor.value()),
+                        id, cursor.id(), ascending);
+                case AREA -> seek(cb, root.get("areaSqMeters"), Double.valueOf(cursor.value()),
+                        id, cursor.id(), ascending);
+                case ID -> ascending ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+            };
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate seek(
+            CriteriaBuilder cb, Path<Y> key, Y value, Path<Long> id, Long lastId, boolean ascending) {
+        // (key, id) > (value, lastId) for ascending, < for descending
+        if (ascending) {
+            return cb.or(
+                    cb.greaterThan(key, value),
+                    cb.and(cb.equal(key, value), cb.greaterThan(id, lastId))
+            );
+        }
+        return cb.or(
+                cb.lessThan(key, value),
+                cb.and(cb.equal(key, value), cb.lessThan(id, lastId))
+        );
+    }
+}
@@ -1,20 +1,100 @@
 package com.services.land_service.repository;
 
+import com.services.land_service.dto.LandSummaryResponse;
 import com.services.land_service.entity.Land;
 import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.event.LandSnapshot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface LandRepository extends JpaRepository<Land, Long> {
+public interface LandRepository extends JpaRepository<Land, Long>, JpaSpecificationExecutor<Land>, LandRepositoryCustom {
+
+    // Summary listings only read the columns LandSummaryResponse needs, never the collections
+    String SUMMARY_SELECT = "select new com.services.land_service.dto.LandSummaryResponse("
+            + "l.id, l.ownerId, l.province, l.district, l.sector, l.areaSqMeters, "
+            + "l.latitude, l.longitude, l.availabilityType, l.status, l.createdAt, l.updatedAt) from Land l";
+
+    // Searchable attributes only, for the after-commit events and the in-memory read models
+    String SNAPSHOT_SELECT = "select new com.services.land_service.event.LandSnapshot("
+            + "l.id, l.province, l.district, l.sector, l.areaSqMeters, l.latitude, l.longitude, "
+            + "l.availabilityType, l.status, l.createdAt) from Land l";
+
+    @Query(value = SUMMARY_SELECT,
+            countQuery = "select count(l) from Land l")
+    Page<LandSummaryResponse> findAllSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + " where l.status = :status",
+            countQuery = "select count(l) from Land l where l.status = :status")
+    Page<LandSummaryResponse> findSummariesByStatus(LandStatus status, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + " where l.areaSqMeters between :minArea and :maxArea",
+            countQuery = "select count(l) from Land l where l.areaSqMeters between :minArea and :maxArea")
+    Page<LandSummaryResponse> findSummariesByAreaRange(Double minArea, Double maxArea, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " where l.id in :ids")
+    List<LandSummaryResponse> findSummariesByIdIn(Collection<Long> ids);
+
+    @Query(SNAPSHOT_SELECT + " where l.id in :ids")
+    List<LandSnapshot> findSnapshotsByIdIn(Collection<Long> ids);
+
+    /**
+     * Streams every land that has coordinates; the caller must hold a transaction and close the stream.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SNAPSHOT_SELECT + " where l.latitude is not null and l.longitude is not null")
+    Stream<LandSnapshot> streamLocatedSnapshots();
+
+    /**
+     * Streams the lands with the given status in id order; the caller must hold a transaction and close the stream.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SNAPSHOT_SELECT + " where l.status = :status order by l.id")
+    Stream<LandSnapshot> streamSnapshotsByStatus(LandStatus status);
+
+    /**
+     * Loads a land for the detail view and mutations: images are joined in the same select,
+     * documents follow in a single select when first accessed.
+     * (Both lists are bags, so Hibernate cannot join-fetch them together.)
+     */
+    @EntityGraph(attributePaths = "imageUrls")
+    @Query("select l from Land l where l.id = :id")
+    Optional<Land> findWithCollectionsById(Long id);
 
-    Page<Land> findByProvinceContainingIgnoreCase(String province, Pageable pageable);
-    Page<Land> findByDistrictContainingIgnoreCase(String district, Pageable pageable);
-    Page<Land> findBySectorContainingIgnoreCase(String sector, Pageable pageable);
+    /**
+     * When the land last changed (its creation for rows never updated): enough to answer a
+     * conditional GET without loading the land.
+     */
+    @Query("select coalesce(l.updatedAt, l.createdAt) from Land l where l.id = :id")
+    Optional<LocalDateTime> findLastModifiedById(Long id);
 
-    Page<Land> findByStatus(LandStatus status, Pageable pageable);
+    @Query("select l.id from Land l where l.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
 
-    Page<Land> findByAreaSqMetersBetween(Double minArea, Double maxArea, Pageable pageable);
-}
\ No newline at end of file
+    /**
+     * Planner estimate of the number of rows in lands, read from pg_class.
+     * Negative when the table has never been analyzed.
+     */
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE relname = 'lands'", nativeQuery = true)
+    Long estimateRowCount();
+}
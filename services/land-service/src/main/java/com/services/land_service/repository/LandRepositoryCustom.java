@@ -0,0 +1,44 @@
+package com.services.land_service.repository;
+
+import com.services.land_service.dto.LandSummaryResponse;
+import com.services.land_service.entity.Land;
+import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.event.LandSnapshot;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Summary projections for specification-based queries, which Spring Data
+ * only offers for whole entities, and writes that return the rows they changed as snapshots.
+ */
+public interface LandRepositoryCustom {
+
+    Page<LandSummaryResponse> findSummaries(Specification<Land> spec, Pageable pageable);
+
+    List<LandSummaryResponse> findSummaries(Specification<Land> spec, Sort sort, int limit);
+
+    /**
+     * Streams all matching summaries over a forward-only cursor, fetching {@code fetchSize} rows at a time.
+     * Must be consumed and closed inside a transaction (PostgreSQL only uses a cursor when autocommit is off).
+     */
+    Stream<LandSummaryResponse> streamSummaries(Specification<Land> spec, Sort sort, int fetchSize);
+
+    /**
+     * Changes the status of the given lands the caller owns in one UPDATE, returning each changed
+     * land as it was before (read under the row lock the UPDATE takes, so it cannot be stale).
+     */
+    List<LandSnapshot> updateStatusByIdsAndOwnerId(Collection<Long> ids, Long ownerId, LandStatus status, LocalDateTime updatedAt);
+
+    /**
+     * Deletes the given lands the caller owns, with their image/document rows, in one statement,
+     * returning each deleted land as it was.
+     */
+    List<LandSnapshot> deleteByIdsAndOwnerId(Collection<Long> ids, Long ownerId);
+}
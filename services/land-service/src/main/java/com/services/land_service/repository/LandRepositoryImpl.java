@@ -0,0 +1,173 @@
+package com.services.land_service.repository;
+
+import com.services.land_service.dto.LandSummaryResponse;
+import com.services.land_service.entity.Land;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.event.LandSnapshot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+class LandRepositoryImpl implements LandRepositoryCustom {
+
+    // The prior status comes from the locking subquery; no other snapshot column is changed
+    private static final String UPDATE_STATUS_RETURNING_PRIOR = """
+            UPDATE lands l SET status = :status, updated_at = :updatedAt
+            FROM (
+                SELECT id, status FROM lands WHERE id IN (:ids) AND owner_id = :ownerId ORDER BY id FOR UPDATE
+            ) prior
+            WHERE l.id = prior.id
+            RETURNING l.id, l.province, l.district, l.sector, l.area_sq_meters, l.latitude, l.longitude,
+                      l.availability_type, prior.status, l.created_at
+            """;
+
+    private static final String DELETE_RETURNING = """
+            WITH target AS (
+                DELETE FROM lands WHERE id IN (:ids) AND owner_id = :ownerId
+                RETURNING id, province, district, sector, area_sq_meters, latitude, longitude,
+                          availability_type, status, created_at
+            ), images AS (
+                DELETE FROM land_images WHERE land_id IN (SELECT id FROM target)
+            ), documents AS (
+                DELETE FROM land_documents WHERE land_id IN (SELECT id FROM target)
+            )
+            SELECT * FROM target
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<LandSummaryResponse> findSummaries(Specification<Land> spec, Pageable pageable) {
+        CriteriaQuery<LandSummaryResponse> query = summaryQuery(spec, pageable.getSort());
+
+        List<LandSummaryResponse> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // The count only runs when the page size does not already tell us the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<LandSummaryResponse> findSummaries(Specification<Land> spec, Sort sort, int limit) {
+        return entityManager.createQuery(summaryQuery(spec, sort))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<LandSummaryResponse> streamSummaries(Specification<Land> spec, Sort sort, int fetchSize) {
+        // Constructor results are not managed entities, so the persistence context stays empty while streaming
+        return entityManager.createQuery(summaryQuery(spec, sort))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public List<LandSnapshot> updateStatusByIdsAndOwnerId(Collection<Long> ids, Long ownerId, LandStatus status,
+                                                          LocalDateTime updatedAt) {
+        return snapshots(entityManager.createNativeQuery(UPDATE_STATUS_RETURNING_PRIOR)
+                .setParameter("ids", ids)
+                .setParameter("ownerId", ownerId)
+                .setParameter("status", status.name())
+                .setParameter("updatedAt", updatedAt));
+    }
+
+    @Override
+    public List<LandSnapshot> deleteByIdsAndOwnerId(Collection<Long> ids, Long ownerId) {
+        return snapshots(entityManager.createNativeQuery(DELETE_RETURNING)
+                .setParameter("ids", ids)
+                .setParameter("ownerId", ownerId));
+    }
+
+    private static List<LandSnapshot> snapshots(Query query) {
+        @SuppressWarnings("unchecked")
+        NativeQuery<Object[]> rows = query.unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("province", String.class)
+                .addScalar("district", String.class)
+                .addScalar("sector", String.class)
+                .addScalar("area_sq_meters", Double.class)
+                .addScalar("latitude", Double.class)
+                .addScalar("longitude", Double.class)
+                .addScalar("availability_type", String.class)
+                .addScalar("status", String.class)
+                .addScalar("created_at", LocalDateTime.class);
+        return rows.getResultList().stream()
+                .map(row -> new LandSnapshot(
+                        (Long) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (String) row[3],
+                        (Double) row[4],
+                        (Double) row[5],
+                        (Double) row[6],
+                        AvailabilityType.valueOf((String) row[7]),
+                        LandStatus.valueOf((String) row[8]),
+                        (LocalDateTime) row[9]))
+                .toList();
+    }
+
+    private CriteriaQuery<LandSummaryResponse> summaryQuery(Specification<Land> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LandSummaryResponse> query = cb.createQuery(LandSummaryResponse.class);
+        Root<Land> root = query.from(Land.class);
+
+        query.select(cb.construct(LandSummaryResponse.class,
+                root.get("id"),
+                root.get("ownerId"),
+                root.get("province"),
+                root.get("district"),
+                root.get("sector"),
+                root.get("areaSqMeters"),
+                root.get("latitude"),
+                root.get("longitude"),
+                root.get("availabilityType"),
+                root.get("status"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return query;
+    }
+
+    private long count(Specification<Land> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Land> root = query.from(Land.class);
+
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
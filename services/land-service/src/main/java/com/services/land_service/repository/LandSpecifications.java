@@ -0,0 +1,67 @@
+package com.services.land_service.repository;
+
+import com.services.land_service.dto.LandSearchRequest;
+import com.services.land_service.entity.Land;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds land search queries against the normalized (lower-cased) location columns,
+ * so that every filter can be served by an index instead of lower(col) like '%x%'.
+ */
+public final class LandSpecifications {
+
+    private LandSpecifications() {
+    }
+
+    public static Specification<Land> matching(LandSearchRequest criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            addLocation(predicates, root, cb, "provinceNormalized", criteria.getProvince(), criteria.isExactLocation());
+            addLocation(predicates, root, cb, "districtNormalized", criteria.getDistrict(), criteria.isExactLocation());
+            addLocation(predicates, root, cb, "sectorNormalized", criteria.getSector(), criteria.isExactLocation());
+
+            if (criteria.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), criteria.getStatus()));
+            }
+            if (criteria.getAvailabilityType() != null) {
+                predicates.add(cb.equal(root.get("availabilityType"), criteria.getAvailabilityType()));
+            }
+            if (criteria.getMinArea() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("areaSqMeters"), criteria.getMinArea()));
+            }
+            if (criteria.getMaxArea() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("areaSqMeters"), criteria.getMaxArea()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static void addLocation(List<Predicate> predicates, Root<Land> root, CriteriaBuilder cb,
+                                    String attribute, String value, boolean exact) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+
+        String normalized = Land.normalize(value);
+        if (exact) {
+            predicates.add(cb.equal(root.get(attribute), normalized));
+        } else {
+            predicates.add(cb.like(root.get(attribute), "%" + escapeLike(normalized) + "%", '\\'));
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
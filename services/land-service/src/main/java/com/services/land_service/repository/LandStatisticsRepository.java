@@ -0,0 +1,28 @@
+package com.services.land_service.repository;
+
+import com.services.land_service.entity.LandStatisticsEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LandStatisticsRepository extends JpaRepository<LandStatisticsEntry, LandStatisticsEntry.Key> {
+
+    /**
+     * The statistics buckets computed from the lands table: one aggregate over all lands,
+     * only run to reconcile the in-memory counters.
+     */
+    @Query("select new com.services.land_service.entity.LandStatisticsEntry("
+            + "l.provinceNormalized, l.districtNormalized, l.status, l.availabilityType, count(l), sum(l.areaSqMeters)) "
+            + "from Land l group by l.provinceNormalized, l.districtNormalized, l.status, l.availabilityType")
+    List<LandStatisticsEntry> countLands();
+
+    /**
+     * Takes the transaction-scoped Postgres advisory lock guarding rewrites of land_statistics;
+     * false, without waiting, when another replica holds it.
+     */
+    @Query(value = "select pg_try_advisory_xact_lock(hashtext('land_statistics'))", nativeQuery = true)
+    boolean tryLockForRewrite();
+}
@@ -0,0 +1,122 @@
+package com.services.land_service.search;
+
+import com.services.land_service.dto.LandSearchRequest;
+import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.event.LandChangedEvent;
+import com.services.land_service.event.LandSnapshot;
+import com.services.land_service.repository.LandKeyset.SortKey;
+import com.services.land_service.repository.LandRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Columnar in-memory copy of the AVAILABLE lands (the marketplace browse set), answering
+ * availability type / area / location filters with a scan over primitive arrays instead of a
+ * query. Only the resulting page is read from the database, by id.
+ */
+@Component
+public class AvailableLandSnapshot extends LandReadModel<AvailableLandTable> {
+
+    private final LandRepository landRepository;
+    private final boolean enabled;
+    private final Timer queryTimer;
+
+    public AvailableLandSnapshot(
+            LandRepository landRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${application.land.available-snapshot.enabled:true}") boolean enabled
+    ) {
+        super(transactionTemplate);
+        this.landRepository = landRepository;
+        this.enabled = enabled;
+
+        this.queryTimer = Timer.builder("land.available.snapshot.query")
+                .description("Time to filter and order the available lands snapshot")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("land.available.snapshot.size", this, AvailableLandSnapshot::size)
+                .description("Lands held by the available lands snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Matching ids for one page, or empty when the snapshot cannot answer: it is disabled or
+     * still loading, the criteria are not restricted to AVAILABLE lands, or the sort is not a
+     * single createdAt, areaSqMeters or id order. Unsorted requests are ordered by id.
+     */
+    public Optional<AvailableLandTable.Matches> find(LandSearchRequest criteria, Pageable pageable) {
+        if (!enabled || criteria.getStatus() != LandStatus.AVAILABLE || pageable.isUnpaged()) {
+            return Optional.empty();
+        }
+
+        SortKey sortKey = SortKey.ID;
+        boolean descending = false;
+        if (pageable.getSort().isSorted()) {
+            Sort.Order[] orders = pageable.getSort().stream().toArray(Sort.Order[]::new);
+            Optional<SortKey> key = sortKey(orders[0].getProperty());
+            if (orders.length > 1 || key.isEmpty()) {
+                return Optional.empty();
+            }
+            sortKey = key.get();
+            descending = orders[0].isDescending();
+        }
+
+        SortKey finalSortKey = sortKey;
+        boolean finalDescending = descending;
+        return queryTimer.record(() -> read(table -> table.query(criteria, finalSortKey, finalDescending,
+                (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize())));
+    }
+
+    @Override
+    protected AvailableLandTable newModel() {
+        return new AvailableLandTable();
+    }
+
+    @Override
+    protected Stream<LandSnapshot> loadSnapshots() {
+        return enabled ? landRepository.streamSnapshotsByStatus(LandStatus.AVAILABLE) : Stream.empty();
+    }
+
+    @Override
+    protected void apply(AvailableLandTable table, LandChangedEvent event) {
+        LandSnapshot land = event.getCurrent();
+        if (land == null || land.status() != LandStatus.AVAILABLE) {
+            table.remove(event.getLandId());
+        } else if (enabled) {
+            table.put(land.id(), land.areaSqMeters(), land.availabilityType(),
+                    land.province(), land.district(), land.sector(),
+                    epochMicros(land.createdAt()));
+        }
+    }
+
+    @Override
+    protected int size(AvailableLandTable table) {
+        return table.size();
+    }
+
+    // Postgres keeps microseconds, so lands created in the same millisecond still order as in SQL
+    private static long epochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static Optional<SortKey> sortKey(String property) {
+        for (SortKey key : SortKey.values()) {
+            if (key.getAttribute().equals(property)) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+}
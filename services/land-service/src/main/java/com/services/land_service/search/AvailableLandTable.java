@@ -0,0 +1,447 @@
+package com.services.land_service.search;
+
+import com.services.land_service.dto.LandSearchRequest;
+import com.services.land_service.entity.Land;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.repository.LandKeyset.SortKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column store of the browsable lands: one primitive array per attribute, rows kept in id order
+ * so a land is found by binary search without a per-row map. Locations are dictionary-encoded:
+ * each distinct (province, district, sector) gets an int id, so a location filter is evaluated
+ * once per dictionary entry and the row scan only indexes a boolean[].
+ * About 29 bytes per row. Filters are evaluated eight rows at a time, with SIMD compares when the
+ * build includes the Vector API scan (the {@code vector} Maven profile) and the JVM has its module.
+ *
+ * <p>Removed rows are tombstoned and compacted away once they make up a quarter of the table.
+ * Not thread-safe: {@link AvailableLandSnapshot} guards it with a read/write lock.
+ */
+public final class AvailableLandTable {
+
+    private static final byte DEAD = -1;
+    private static final byte ANY = -1;
+    private static final int MIN_COMPACTION = 1024;
+
+    /**
+     * Rows evaluated together by the scans, one bit each.
+     */
+    static final int CHUNK = 8;
+
+    private static final ChunkScan VECTOR_SCAN = loadVectorScan();
+
+    /**
+     * Whether the Vector API scan was built in and the JVM was started with
+     * {@code --add-modules jdk.incubator.vector}.
+     */
+    public static final boolean VECTOR_API_AVAILABLE = VECTOR_SCAN != null;
+
+    private final ChunkScan vectorScan;
+
+    private long[] ids = new long[1024];
+    private double[] areas = new double[1024];
+    private long[] createdAt = new long[1024];
+    private int[] locations = new int[1024];
+    private byte[] availabilityTypes = new byte[1024];
+    private int rows;
+    private int live;
+
+    private final List<String[]> dictionary = new ArrayList<>();
+    private final Map<String, Integer> dictionaryIds = new HashMap<>();
+
+    public AvailableLandTable() {
+        this(true);
+    }
+
+    /**
+     * @param vectorized use the Vector API for the scans when the JVM has it
+     */
+    public AvailableLandTable(boolean vectorized) {
+        this.vectorScan = vectorized ? VECTOR_SCAN : null;
+    }
+
+    public boolean isVectorized() {
+        return vectorScan != null;
+    }
+
+    private static ChunkScan loadVectorScan() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (ChunkScan) Class.forName(AvailableLandTable.class.getPackageName() + ".VectorizedScan")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException e) {
+            // Built without the vector profile
+            return null;
+        }
+    }
+
+    /**
+     * One page of matching land ids in the requested order, and the number of matches.
+     */
+    public record Matches(long[] ids, long total) {
+    }
+
+    /**
+     * Query predicates; {@code locationMatches} is indexed by dictionary id, null when any location matches.
+     */
+    private record Filter(byte availabilityType, double minArea, double maxArea, boolean[] locationMatches) {
+
+        boolean anyLocation() {
+            return locationMatches == null;
+        }
+    }
+
+    /**
+     * Adds the land or replaces its row. {@code createdAt} is in epoch microseconds.
+     */
+    public void put(long id, double areaSqMeters, AvailabilityType availabilityType,
+                    String province, String district, String sector, long createdAt) {
+        int row = Arrays.binarySearch(ids, 0, rows, id);
+        if (row < 0) {
+            row = -row - 1;
+            insertAt(row);
+            ids[row] = id;
+            live++;
+        } else if (availabilityTypes[row] == DEAD) {
+            live++;
+        }
+        areas[row] = areaSqMeters;
+        this.createdAt[row] = createdAt;
+        locations[row] = locationId(province, district, sector);
+        availabilityTypes[row] = (byte) availabilityType.ordinal();
+    }
+
+    public void remove(long id) {
+        int row = Arrays.binarySearch(ids, 0, rows, id);
+        if (row >= 0 && availabilityTypes[row] != DEAD) {
+            availabilityTypes[row] = DEAD;
+            live--;
+            if (rows - live > Math.max(MIN_COMPACTION, rows / 4)) {
+                compact();
+            }
+        }
+    }
+
+    public int size() {
+        return live;
+    }
+
+    /**
+     * Lands matching the availability type, area range and location of the criteria
+     * (its status is not looked at: every row is available), ordered by (sort key, id).
+     */
+    public Matches query(LandSearchRequest criteria, SortKey sortKey, boolean descending, int offset, int limit) {
+        Filter filter = new Filter(
+                criteria.getAvailabilityType() == null ? ANY : (byte) criteria.getAvailabilityType().ordinal(),
+                criteria.getMinArea() != null ? criteria.getMinArea() : Double.NEGATIVE_INFINITY,
+                criteria.getMaxArea() != null ? criteria.getMaxArea() : Double.POSITIVE_INFINITY,
+                locationMatches(criteria));
+
+        TopRows top = new TopRows(sortKey, descending, (int) Math.min((long) offset + limit, Integer.MAX_VALUE));
+
+        // Rows are in id order: for an id sort the first matches in scan direction are the page
+        long total = sortKey == SortKey.ID
+                ? scanInIdOrder(top, descending, filter)
+                : scanRanked(top, filter);
+
+        return new Matches(top.page(offset), total);
+    }
+
+    /*
+     * The scans work on chunks of CHUNK rows: the availability type and area predicates give one
+     * bit per row (with SIMD compares when the Vector API is available, otherwise a branch-free
+     * loop), and only the set bits are visited. Without a location filter a chunk is usually
+     * settled with a bit count; with one, the dictionary lookup is done for the set bits only.
+     */
+
+    private long scanInIdOrder(TopRows top, boolean descending, Filter filter) {
+        int n = rows;
+        int lastChunk = (n - 1) / CHUNK * CHUNK;
+        long total = 0;
+        for (int i = 0; i <= lastChunk; i += CHUNK) {
+            int base = descending ? lastChunk - i : i;
+            long bits = matches(base, n, filter);
+            if (filter.anyLocation() && top.isFull()) {
+                total += Long.bitCount(bits);
+                continue;
+            }
+            while (bits != 0) {
+                int lane = descending ? 63 - Long.numberOfLeadingZeros(bits) : Long.numberOfTrailingZeros(bits);
+                bits &= ~(1L << lane);
+                int row = base + lane;
+                if (filter.anyLocation() || filter.locationMatches()[locations[row]]) {
+                    total++;
+                    if (!top.isFull()) {
+                        top.heap[top.size++] = row;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    private long scanRanked(TopRows top, Filter filter) {
+        int n = rows;
+        long total = 0;
+        for (int base = 0; base < n; base += CHUNK) {
+            long bits = matches(base, n, filter);
+            if (bits == 0) {
+                continue;
+            }
+            if (filter.anyLocation()) {
+                total += Long.bitCount(bits);
+            } else {
+                for (long candidates = bits; candidates != 0; candidates &= candidates - 1) {
+                    int lane = Long.numberOfTrailingZeros(candidates);
+                    if (!filter.locationMatches()[locations[base + lane]]) {
+                        bits &= ~(1L << lane);
+                    }
+                }
+                total += Long.bitCount(bits);
+            }
+            // Once the heap is full only rows at or before its last row can enter
+            if (top.isFull()) {
+                bits &= top.withinBound(base, n);
+            }
+            for (; bits != 0; bits &= bits - 1) {
+                top.offer(base + Long.numberOfTrailingZeros(bits));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Bit {@code i} set when row {@code base + i} is live and passes the availability type and area filters.
+     */
+    private long matches(int base, int n, Filter filter) {
+        boolean anyType = filter.availabilityType() == ANY;
+        if (vectorScan != null && base + CHUNK <= n) {
+            return vectorScan.matches(availabilityTypes, areas, base,
+                    filter.availabilityType(), anyType, DEAD, filter.minArea(), filter.maxArea());
+        }
+        int lanes = Math.min(CHUNK, n - base);
+        long bits = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            byte type = availabilityTypes[base + lane];
+            double area = areas[base + lane];
+            boolean match = (type != DEAD) & (anyType | type == filter.availabilityType())
+                    & (area >= filter.minArea()) & (area <= filter.maxArea());
+            bits |= (match ? 1L : 0L) << lane;
+        }
+        return bits;
+    }
+
+    /**
+     * Dictionary entries that satisfy the location filters (same matching as LandSpecifications);
+     * null when the criteria have none.
+     */
+    private boolean[] locationMatches(LandSearchRequest criteria) {
+        String province = normalizedFilter(criteria.getProvince());
+        String district = normalizedFilter(criteria.getDistrict());
+        String sector = normalizedFilter(criteria.getSector());
+        if (province == null && district == null && sector == null) {
+            return null;
+        }
+        boolean[] matches = new boolean[dictionary.size()];
+
+        boolean exact = criteria.isExactLocation();
+        for (int i = 0; i < matches.length; i++) {
+            String[] location = dictionary.get(i);
+            matches[i] = matches(location[0], province, exact)
+                    && matches(location[1], district, exact)
+                    && matches(location[2], sector, exact);
+        }
+        return matches;
+    }
+
+    private static boolean matches(String value, String filter, boolean exact) {
+        if (filter == null) {
+            return true;
+        }
+        if (value == null) {
+            return false;
+        }
+        return exact ? value.equals(filter) : value.contains(filter);
+    }
+
+    private static String normalizedFilter(String value) {
+        return value == null || value.isBlank() ? null : Land.normalize(value);
+    }
+
+    private int locationId(String province, String district, String sector) {
+        String[] location = {Land.normalize(province), Land.normalize(district), Land.normalize(sector)};
+        return dictionaryIds.computeIfAbsent(location[0] + '\u0000' + location[1] + '\u0000' + location[2], key -> {
+            dictionary.add(location);
+            return dictionary.size() - 1;
+        });
+    }
+
+    private void insertAt(int row) {
+        if (rows == ids.length) {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            areas = Arrays.copyOf(areas, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            locations = Arrays.copyOf(locations, capacity);
+            availabilityTypes = Arrays.copyOf(availabilityTypes, capacity);
+        }
+        // New lands have the highest ids, so this shift is rare (a land becoming available again after compaction)
+        if (row < rows) {
+            int moved = rows - row;
+            System.arraycopy(ids, row, ids, row + 1, moved);
+            System.arraycopy(areas, row, areas, row + 1, moved);
+            System.arraycopy(createdAt, row, createdAt, row + 1, moved);
+            System.arraycopy(locations, row, locations, row + 1, moved);
+            System.arraycopy(availabilityTypes, row, availabilityTypes, row + 1, moved);
+        }
+        rows++;
+    }
+
+    private void compact() {
+        int kept = 0;
+        for (int row = 0; row < rows; row++) {
+            if (availabilityTypes[row] != DEAD) {
+                ids[kept] = ids[row];
+                areas[kept] = areas[row];
+                createdAt[kept] = createdAt[row];
+                locations[kept] = locations[row];
+                availabilityTypes[kept] = availabilityTypes[row];
+                kept++;
+            }
+        }
+        rows = kept;
+    }
+
+    /**
+     * The first {@code limit} rows in (sort key, id) order: a bounded heap whose root is the
+     * row that would come last. Once the heap is full the scan masks out rows whose key comes
+     * after the root's without offering them.
+     */
+    private final class TopRows {
+
+        private final SortKey sortKey;
+        private final boolean descending;
+        private final int[] heap;
+        private int size;
+
+        TopRows(SortKey sortKey, boolean descending, int limit) {
+            this.sortKey = sortKey;
+            this.descending = descending;
+            this.heap = new int[Math.min(limit, rows)];
+        }
+
+        void offer(int row) {
+            if (size < heap.length) {
+                heap[size] = row;
+                siftUp(size++);
+            } else if (size > 0 && before(row, heap[0])) {
+                heap[0] = row;
+                siftDown(0);
+            }
+        }
+
+        boolean isFull() {
+            return size == heap.length;
+        }
+
+        /**
+         * Bit {@code i} set when the key of row {@code base + i} does not come after the root's.
+         */
+        long withinBound(int base, int n) {
+            if (size == 0) {
+                return 0;
+            }
+            int root = heap[0];
+            if (vectorScan != null && base + CHUNK <= n) {
+                return sortKey == SortKey.AREA
+                        ? vectorScan.within(areas, base, areas[root], descending)
+                        : vectorScan.within(createdAt, base, createdAt[root], descending);
+            }
+            int lanes = Math.min(CHUNK, n - base);
+            long bits = 0;
+            for (int lane = 0; lane < lanes; lane++) {
+                int compare = sortKey == SortKey.AREA
+                        ? Double.compare(areas[base + lane], areas[root])
+                        : Long.compare(createdAt[base + lane], createdAt[root]);
+                boolean within = descending ? compare >= 0 : compare <= 0;
+                bits |= (within ? 1L : 0L) << lane;
+            }
+            return bits;
+        }
+
+        long[] page(int offset) {
+            int[] ordered;
+            if (sortKey == SortKey.ID) {
+                ordered = Arrays.copyOf(heap, size);
+            } else {
+                ordered = new int[size];
+                for (int i = size - 1; i >= 0; i--) {
+                    ordered[i] = heap[0];
+                    heap[0] = heap[--size];
+                    siftDown(0);
+                }
+            }
+
+            int from = Math.min(offset, ordered.length);
+            long[] page = new long[ordered.length - from];
+            for (int i = from; i < ordered.length; i++) {
+                page[i - from] = ids[ordered[i]];
+            }
+            return page;
+        }
+        /**
+         * Whether row a comes before row b in the requested order.
+         */
+        private boolean before(int a, int b) {
+            int compare = switch (sortKey) {
+                case CREATED_AT -> Long.compare(createdAt[a], createdAt[b]);
+                case AREA -> Double.compare(areas[a], areas[b]);
+                case ID -> 0;
+            };
+            if (compare == 0) {
+                compare = Long.compare(ids[a], ids[b]);
+            }
+            return descending ? compare > 0 : compare < 0;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(heap[parent], heap[i])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int last = left + 1 < size && before(heap[left], heap[left + 1]) ? left + 1 : left;
+                if (!before(heap[i], heap[last])) {
+                    return;
+                }
+                swap(i, last);
+                i = last;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int row = heap[i];
+            heap[i] = heap[j];
+            heap[j] = row;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.services.land_service.search;
+
+/**
+ * The {@link AvailableLandTable} chunk predicates that have a SIMD implementation.
+ * Each call evaluates {@link AvailableLandTable#CHUNK} consecutive rows and returns one bit per row.
+ */
+interface ChunkScan {
+
+    /**
+     * Rows that are live, of the availability type (any when {@code anyType}) and inside the area range.
+     */
+    long matches(byte[] types, double[] areas, int from,
+                 byte type, boolean anyType, byte dead, double minArea, double maxArea);
+
+    /**
+     * Rows whose value is at least {@code bound} ({@code descending}) or at most {@code bound}.
+     */
+    long within(long[] values, int from, long bound, boolean descending);
+
+    long within(double[] values, int from, double bound, boolean descending);
+}
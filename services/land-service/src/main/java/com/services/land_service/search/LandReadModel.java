@@ -0,0 +1,160 @@
+package com.services.land_service.search;
+
+import com.services.land_service.event.LandChangedEvent;
+import com.services.land_service.event.LandSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Base of the in-memory read models over lands. The model is loaded in one streaming read once
+ * the application is ready, then kept current from the {@link LandChangedEvent}s that
+ * LandServiceImpl publishes after commit; changes committed while it loads are replayed afterwards.
+ * Queries share a read lock, changes take the write lock.
+ *
+ * <p>Events only cover this instance's own writes, so every reload-interval the model is rebuilt
+ * from the database the same way and swapped in. That picks up lands changed by other replicas
+ * or written to the database directly; replaying an event on a model that already has the
+ * change is harmless, as events carry the land's whole state.
+ *
+ * @param <M> the (not thread-safe) structure holding the data
+ */
+@Slf4j
+public abstract class LandReadModel<M> {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private M model;
+    // Changes to replay on a model being loaded or reloaded; null when neither is in progress
+    private List<LandChangedEvent> pending = new ArrayList<>();
+
+    protected LandReadModel(TransactionTemplate transactionTemplate) {
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    protected abstract M newModel();
+
+    /**
+     * The lands to load; called inside a read-only transaction, the stream is closed afterwards.
+     */
+    protected abstract Stream<LandSnapshot> loadSnapshots();
+
+    protected abstract void apply(M model, LandChangedEvent event);
+
+    protected abstract int size(M model);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild("loaded");
+    }
+
+    /**
+     * Rebuilds the model from the database; queries keep using the current one meanwhile.
+     */
+    @Scheduled(initialDelayString = "${application.land.read-model.reload-interval:15m}",
+            fixedDelayString = "${application.land.read-model.reload-interval:15m}")
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                // Still loading
+                return;
+            }
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        rebuild("reloaded");
+    }
+
+    private void rebuild(String action) {
+        long start = System.nanoTime();
+        M loaded = newModel();
+
+        try {
+            transactionTemplate.execute(status -> {
+                try (Stream<LandSnapshot> lands = loadSnapshots()) {
+                    lands.forEach(land -> apply(loaded, LandChangedEvent.created(land)));
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                if (model != null) {
+                    pending = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(event -> apply(loaded, event));
+            model = loaded;
+            log.info("{} {} {} lands in {} ms ({} changes replayed)", getClass().getSimpleName(), action,
+                    size(model), (System.nanoTime() - start) / 1_000_000, pending.size());
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLandChanged(LandChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(event);
+            }
+            if (model != null) {
+                apply(model, event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return model != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return model == null ? 0 : size(model);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs the query under the read lock; empty while the model is still loading.
+     */
+    protected <T> Optional<T> read(Function<M, T> query) {
+        lock.readLock().lock();
+        try {
+            return model == null ? Optional.empty() : Optional.of(query.apply(model));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
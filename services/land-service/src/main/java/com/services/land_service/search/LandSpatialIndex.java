@@ -0,0 +1,97 @@
+package com.services.land_service.search;
+
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.event.LandChangedEvent;
+import com.services.land_service.event.LandSnapshot;
+import com.services.land_service.repository.LandRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * In-memory spatial index of every land that has coordinates, serving the radius and
+ * bounding-box searches that SQL over lands could only answer with a full scan.
+ */
+@Component
+public class LandSpatialIndex extends LandReadModel<SpatialGrid> {
+
+    private final LandRepository landRepository;
+    private final double cellSizeDegrees;
+    private final Timer queryTimer;
+
+    public LandSpatialIndex(
+            LandRepository landRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${application.land.spatial-index.cell-size-degrees:0.01}") double cellSizeDegrees
+    ) {
+        super(transactionTemplate);
+        this.landRepository = landRepository;
+        this.cellSizeDegrees = cellSizeDegrees;
+
+        this.queryTimer = Timer.builder("land.spatial.index.query")
+                .description("Time to answer a radius or bounding-box query from the spatial index")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("land.spatial.index.size", this, LandSpatialIndex::size)
+                .description("Lands held by the spatial index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lands within {@code radiusMeters} of the point, nearest first.
+     */
+    public List<SpatialGrid.Hit> withinRadius(double latitude, double longitude, double radiusMeters,
+                                              LandStatus status, AvailabilityType availabilityType) {
+        return query(index -> index.withinRadius(latitude, longitude, radiusMeters, status, availabilityType));
+    }
+
+    /**
+     * Ids of the lands inside the box, newest first.
+     */
+    public long[] withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                            LandStatus status, AvailabilityType availabilityType) {
+        return query(index -> index.withinBox(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                status, availabilityType));
+    }
+
+    @Override
+    protected SpatialGrid newModel() {
+        return new SpatialGrid(cellSizeDegrees);
+    }
+
+    @Override
+    protected Stream<LandSnapshot> loadSnapshots() {
+        return landRepository.streamLocatedSnapshots();
+    }
+
+    @Override
+    protected void apply(SpatialGrid grid, LandChangedEvent event) {
+        LandSnapshot land = event.getCurrent();
+        if (land == null || !land.hasCoordinates()) {
+            grid.remove(event.getLandId());
+        } else {
+            grid.put(land.id(), land.latitude(), land.longitude(), land.status(), land.availabilityType());
+        }
+    }
+
+    @Override
+    protected int size(SpatialGrid grid) {
+        return grid.size();
+    }
+
+    private <T> T query(Function<SpatialGrid, T> query) {
+        return queryTimer.record(() -> read(query)).orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "The spatial index is still loading"));
+    }
+}
@@ -0,0 +1,275 @@
+package com.services.land_service.search;
+
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform latitude/longitude grid of land points (a fixed-precision geohash).
+ * Each cell stores its points in parallel primitive arrays, so a query scans a few small
+ * arrays per cell instead of chasing one object per land.
+ *
+ * <p>Not thread-safe: {@link LandSpatialIndex} guards it with a read/write lock.
+ * Longitudes are not wrapped around the antimeridian; query ranges are clamped to [-180, 180].
+ * A query whose range spans more cells than are populated walks the populated cells instead,
+ * so its cost is bounded by the index size rather than by the area asked for.
+ */
+public final class SpatialGrid {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.toRadians(EARTH_RADIUS_METERS);
+    private static final byte ANY = -1;
+
+    private final double cellSizeDegrees;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<Long, Cell> cellByLandId = new HashMap<>();
+
+    public SpatialGrid(double cellSizeDegrees) {
+        if (!(cellSizeDegrees > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSizeDegrees);
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    public record Hit(long landId, double distanceMeters) {
+    }
+
+    /**
+     * Adds the land, or moves it if it is already indexed.
+     */
+    public void put(long landId, double latitude, double longitude, LandStatus status, AvailabilityType availabilityType) {
+        long key = cellKey(latitude, longitude);
+        Cell current = cellByLandId.get(landId);
+        if (current != null && current.key != key) {
+            removeFrom(current, landId);
+            current = null;
+        }
+
+        Cell cell = current != null ? current : cells.computeIfAbsent(key, Cell::new);
+        cell.put(landId, latitude, longitude, ordinal(status), ordinal(availabilityType));
+        cellByLandId.put(landId, cell);
+    }
+
+    public void remove(long landId) {
+        Cell cell = cellByLandId.remove(landId);
+        if (cell != null) {
+            removeFrom(cell, landId);
+        }
+    }
+
+    public int size() {
+        return cellByLandId.size();
+    }
+
+    /**
+     * Lands within {@code radiusMeters} (great-circle distance) of the point, nearest first.
+     * A null status or availability type matches any value.
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusMeters,
+                                  LandStatus status, AvailabilityType availabilityType) {
+        double latitudeDelta = radiusMeters / METERS_PER_DEGREE;
+        double longitudeDelta = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 1e-6));
+        double minLatitude = latitude - latitudeDelta;
+        double maxLatitude = latitude + latitudeDelta;
+        double minLongitude = longitude - longitudeDelta;
+        double maxLongitude = longitude + longitudeDelta;
+        byte statusFilter = ordinal(status);
+        byte availabilityFilter = ordinal(availabilityType);
+
+        List<Hit> hits = new ArrayList<>();
+        for (Cell cell : cellsIn(minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+            for (int i = 0; i < cell.size; i++) {
+                if (!cell.matches(i, statusFilter, availabilityFilter)
+                        || cell.latitudes[i] < minLatitude || cell.latitudes[i] > maxLatitude
+                        || cell.longitudes[i] < minLongitude || cell.longitudes[i] > maxLongitude) {
+                    continue;
+                }
+                double distance = distanceMeters(latitude, longitude, cell.latitudes[i], cell.longitudes[i]);
+                if (distance <= radiusMeters) {
+                    hits.add(new Hit(cell.landIds[i], distance));
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters).thenComparingLong(Hit::landId));
+        return hits;
+    }
+
+    /**
+     * Ids of the lands inside the box (edges included), highest (newest) id first.
+     * A null status or availability type matches any value.
+     */
+    public long[] withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                            LandStatus status, AvailabilityType availabilityType) {
+        byte statusFilter = ordinal(status);
+        byte availabilityFilter = ordinal(availabilityType);
+
+        long[] ids = new long[64];
+        int count = 0;
+        for (Cell cell : cellsIn(minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+            for (int i = 0; i < cell.size; i++) {
+                if (cell.matches(i, statusFilter, availabilityFilter)
+                        && cell.latitudes[i] >= minLatitude && cell.latitudes[i] <= maxLatitude
+                        && cell.longitudes[i] >= minLongitude && cell.longitudes[i] <= maxLongitude) {
+                    if (count == ids.length) {
+                        ids = Arrays.copyOf(ids, count * 2);
+                    }
+                    ids[count++] = cell.landIds[i];
+                }
+            }
+        }
+
+        ids = Arrays.copyOf(ids, count);
+        Arrays.sort(ids);
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            long swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return ids;
+    }
+
+    /**
+     * Haversine distance; accurate to well under a meter at parcel scale.
+     */
+    static double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double sinLatitude = Math.sin(Math.toRadians(latitude2 - latitude1) / 2);
+        double sinLongitude = Math.sin(Math.toRadians(longitude2 - longitude1) / 2);
+        double a = sinLatitude * sinLatitude
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2)) * sinLongitude * sinLongitude;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * The populated cells overlapping the range: looked up one by one, or filtered from all
+     * populated cells when the range covers more cells than that.
+     */
+    private List<Cell> cellsIn(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        long minRow = index(Math.max(minLatitude, -90));
+        long maxRow = index(Math.min(maxLatitude, 90));
+        long minColumn = index(Math.max(minLongitude, -180));
+        long maxColumn = index(Math.min(maxLongitude, 180));
+        if (minRow > maxRow || minColumn > maxColumn) {
+            return List.of();
+        }
+
+        List<Cell> overlapping = new ArrayList<>();
+        if ((maxRow - minRow + 1) * (maxColumn - minColumn + 1) > cells.size()) {
+            for (Cell cell : cells.values()) {
+                long row = cell.key >> 32;
+                long column = (int) cell.key;
+                if (row >= minRow && row <= maxRow && column >= minColumn && column <= maxColumn) {
+                    overlapping.add(cell);
+                }
+            }
+            return overlapping;
+        }
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long column = minColumn; column <= maxColumn; column++) {
+                Cell cell = cells.get(key(row, column));
+                if (cell != null) {
+                    overlapping.add(cell);
+                }
+            }
+        }
+        return overlapping;
+    }
+
+    private void removeFrom(Cell cell, long landId) {
+        cell.remove(landId);
+        if (cell.size == 0) {
+            cells.remove(cell.key);
+        }
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return key(index(latitude), index(longitude));
+    }
+
+    private long index(double degrees) {
+        return (long) Math.floor(degrees / cellSizeDegrees);
+    }
+
+    private static long key(long row, long column) {
+        return (row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return value == null ? ANY : (byte) value.ordinal();
+    }
+
+    private static final class Cell {
+
+        private final long key;
+        private long[] landIds = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private byte[] statuses = new byte[4];
+        private byte[] availabilityTypes = new byte[4];
+        private int size;
+
+        Cell(long key) {
+            this.key = key;
+        }
+
+        boolean matches(int i, byte status, byte availabilityType) {
+            return (status == ANY || statuses[i] == status)
+                    && (availabilityType == ANY || availabilityTypes[i] == availabilityType);
+        }
+
+        void put(long landId, double latitude, double longitude, byte status, byte availabilityType) {
+            int i = indexOf(landId);
+            if (i < 0) {
+                if (size == landIds.length) {
+                    grow();
+                }
+                i = size++;
+            }
+            landIds[i] = landId;
+            latitudes[i] = latitude;
+            longitudes[i] = longitude;
+            statuses[i] = status;
+            availabilityTypes[i] = availabilityType;
+        }
+
+        /**
+         * Moves the last entry into the removed slot; order within a cell does not matter.
+         */
+        void remove(long landId) {
+            int i = indexOf(landId);
+            if (i < 0) {
+                return;
+            }
+            int last = --size;
+            landIds[i] = landIds[last];
+            latitudes[i] = latitudes[last];
+            longitudes[i] = longitudes[last];
+            statuses[i] = statuses[last];
+            availabilityTypes[i] = availabilityTypes[last];
+        }
+
+        private int indexOf(long landId) {
+            for (int i = 0; i < size; i++) {
+                if (landIds[i] == landId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void grow() {
+            int capacity = landIds.length * 2;
+            landIds = Arrays.copyOf(landIds, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            availabilityTypes = Arrays.copyOf(availabilityTypes, capacity);
+        }
+    }
+}
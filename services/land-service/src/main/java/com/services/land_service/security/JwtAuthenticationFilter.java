@@ -5,22 +5,18 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(
@@ -39,31 +35,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = authHeader.substring(7);
 
-            if (jwtService.validateToken(jwt)) {
-                String userEmail = jwtService.extractEmail(jwt);
-                Long userId = jwtService.extractUserId(jwt);
-                List<String> roles = jwtService.extractRoles(jwt);
+            // One lookup: verified once per token, then served from the cache until it expires
+            JwtPrincipal principal = verifiedTokenCache.resolve(jwt);
 
-                if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (principal != null && principal.getEmail() != null
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                    // Convert roles to GrantedAuthority
-                    List<SimpleGrantedAuthority> authorities = roles != null ?
-                            roles.stream()
-                                    .map(SimpleGrantedAuthority::new)
-                                    .collect(Collectors.toList())
-                            : List.of();
+                // Create custom authentication object with userId
+                UserAuthenticationToken authToken = new UserAuthenticationToken(
+                        principal.getEmail(),
+                        principal.getUserId(),
+                        null,
+                        principal.getAuthorities()
+                );
 
-                    // Create custom authentication object with userId
-                    UserAuthenticationToken authToken = new UserAuthenticationToken(
-                            userEmail,
-                            userId,
-                            null,
-                            authorities
-                    );
-
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         } catch (Exception e) {
             logger.error("JWT validation error: " + e.getMessage());
@@ -71,4 +58,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
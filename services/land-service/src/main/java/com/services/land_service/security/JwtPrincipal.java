@@ -0,0 +1,23 @@
+package com.services.land_service.security;
+
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable result of verifying a JWT.
+ * Holds everything needed to build the authentication for a request.
+ */
+@Value
+public class JwtPrincipal {
+
+    String email;
+
+    Long userId;
+
+    List<? extends GrantedAuthority> authorities;
+
+    Instant expiresAt;
+}
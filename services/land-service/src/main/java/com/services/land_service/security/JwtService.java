@@ -1,12 +1,16 @@
 package com.services.land_service.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.List;
 import java.util.function.Function;
 
@@ -16,6 +20,19 @@ public class JwtService {
     @Value("${jwt.secret}")
     private String secret;
 
+    private Key signKey;
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        // Key and parser are immutable and thread-safe, so build them once
+        signKey = Keys.hmacShaKeyFor(secret.getBytes());
+        jwtParser = Jwts.parser()
+                .setSigningKey(signKey)
+                .build();
+    }
+
     public String extractEmail(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -33,10 +50,32 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Verifies the token once and reads every claim the filter needs.
+     * Throws if the signature is invalid or the token has expired.
+     */
+    public JwtPrincipal parsePrincipal(String token) {
+        Claims claims = extractAllClaims(token);
+
+        List<String> roles = (List<String>) claims.get("roles");
+        List<SimpleGrantedAuthority> authorities = roles != null
+                ? roles.stream().map(SimpleGrantedAuthority::new).toList()
+                : List.of();
+
+        Instant expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().toInstant()
+                : null;
+
+        return new JwtPrincipal(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                authorities,
+                expiresAt
+        );
+    }
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSignKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -49,9 +88,4 @@ public class JwtService {
             return false;
         }
     }
-
-    private Key getSignKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-}
\ No newline at end of file
+}
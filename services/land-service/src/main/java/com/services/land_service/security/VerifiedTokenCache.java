@@ -0,0 +1,97 @@
+package com.services.land_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Bounded cache of verified tokens, keyed by the SHA-256 digest of the token.
+ * Each entry is evicted when the token itself expires, so a cached principal
+ * is never served for an expired token.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtService jwtService;
+    private final Cache<String, JwtPrincipal> cache;
+    private final Duration defaultTtl;
+
+    public VerifiedTokenCache(
+            JwtService jwtService,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.expiration}") long expirationMillis
+    ) {
+        this.jwtService = jwtService;
+        this.defaultTtl = Duration.ofMillis(expirationMillis);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        // Exposes cache.gets{result=hit|miss}, cache.evictions and cache.size through actuator
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    /**
+     * Returns the principal for a valid token, or null if the token cannot be verified.
+     */
+    public JwtPrincipal resolve(String token) {
+        return cache.get(digest(token), key -> verify(token));
+    }
+
+    private JwtPrincipal verify(String token) {
+        try {
+            return jwtService.parsePrincipal(token);
+        } catch (Exception e) {
+            // Invalid tokens are not cached; returning null leaves no entry behind
+            log.debug("JWT verification failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private class TokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            if (principal.getExpiresAt() == null) {
+                return defaultTtl.toNanos();
+            }
+            long remaining = Duration.between(Instant.now(), principal.getExpiresAt()).toNanos();
+            return Math.max(remaining, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
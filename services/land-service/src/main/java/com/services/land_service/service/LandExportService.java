@@ -0,0 +1,49 @@
+package com.services.land_service.service;
+
+import com.services.land_service.dto.LandSearchRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+public interface LandExportService {
+
+    enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * The format named by its extension (case-insensitive), if there is one.
+         */
+        public static Optional<Format> fromExtension(String extension) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(extension)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes every land matching the criteria to the stream, one row at a time, in id order.
+     * The rows have the same shape as {@link com.services.land_service.dto.LandSummaryResponse}.
+     */
+    void export(LandSearchRequest criteria, Format format, OutputStream out) throws IOException;
+}
@@ -1,32 +1,59 @@
 package com.services.land_service.service;
 
 import com.services.land_service.dto.*;
+import com.services.land_service.entity.Land.AvailabilityType;
 import com.services.land_service.entity.Land.LandStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface LandService {
 
     LandResponse createLand(CreateLandRequest request,Long currentUserId);
 
+    BulkOperationResponse createLands(List<CreateLandRequest> requests, Long currentUserId);
+
     LandResponse getLandById(Long id);
 
+    /**
+     * When the land last changed, without loading it; throws LandNotFoundException like getLandById.
+     */
+    LocalDateTime getLandLastModified(Long id);
+
     Page<LandSummaryResponse> getAllLands(Pageable pageable);
 
     LandResponse updateLand(Long id, UpdateLandRequest request, Long currentUserId);
 
     LandResponse updateLandStatus(Long id, LandStatus status, Long currentUserId);
 
+    BulkOperationResponse updateLandStatuses(List<Long> ids, LandStatus status, Long currentUserId);
+
     void deleteLand(Long id, Long currentUserId);
 
+    BulkOperationResponse deleteLands(List<Long> ids, Long currentUserId);
+
     Page<LandSummaryResponse> searchLandsByLocation(String province, String district, String sector, Pageable pageable);
 
+    Page<LandSummaryResponse> searchLands(LandSearchRequest criteria, Pageable pageable);
+
+    PageResponse<LandSummaryResponse> getLandsFeed(LandSearchRequest criteria, String sortBy, Sort.Direction direction,
+                                                   String cursor, int size, boolean includeTotal);
+
+    Page<LandSummaryResponse> searchLandsNearby(double latitude, double longitude, double radiusKm,
+                                                LandStatus status, AvailabilityType availabilityType, Pageable pageable);
+
+    Page<LandSummaryResponse> searchLandsInBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                               LandStatus status, AvailabilityType availabilityType, Pageable pageable);
+
     Page<LandSummaryResponse> getLandsByStatus(LandStatus status, Pageable pageable);
 
     Page<LandSummaryResponse> getLandsByAreaRange(Double minArea, Double maxArea, Pageable pageable);
 
+    LandStatisticsResponse getStatistics(LandStatus status, AvailabilityType availabilityType);
+
     LandResponse addImages(Long id, List<String> imageUrls, Long currentUserId);
 
     LandResponse addDocuments(Long id, List<String> documentUrls, Long currentUserId);
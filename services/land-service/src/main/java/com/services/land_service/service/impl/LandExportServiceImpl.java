@@ -0,0 +1,106 @@
+package com.services.land_service.service.impl;
+
+import com.services.land_service.dto.LandSearchRequest;
+import com.services.land_service.dto.LandSummaryResponse;
+import com.services.land_service.repository.LandRepository;
+import com.services.land_service.repository.LandSpecifications;
+import com.services.land_service.service.LandExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LandExportServiceImpl implements LandExportService {
+
+    private static final String CSV_HEADER =
+            "id,ownerId,province,district,sector,areaSqMeters,availabilityType,status,createdAt,latitude,longitude,updatedAt\n";
+
+    // Same pattern as the @JsonFormat on LandSummaryResponse.createdAt and updatedAt
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final LandRepository landRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${application.land.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(LandSearchRequest criteria, Format format, OutputStream out) throws IOException {
+        log.info("Exporting lands as {} with criteria: {}", format, criteria);
+
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        long rows = 0;
+
+        try (Stream<LandSummaryResponse> lands = landRepository.streamSummaries(
+                LandSpecifications.matching(criteria), Sort.by("id"), fetchSize)) {
+
+            if (format == Format.CSV) {
+                buffered.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+            }
+
+            Iterator<LandSummaryResponse> iterator = lands.iterator();
+            while (iterator.hasNext()) {
+                LandSummaryResponse land = iterator.next();
+                if (format == Format.CSV) {
+                    buffered.write(toCsvLine(land).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    // writeValueAsBytes rather than writeValue(out, ...), which would close the response stream
+                    buffered.write(objectMapper.writeValueAsBytes(land));
+                    buffered.write('\n');
+                }
+                rows++;
+            }
+        }
+
+        buffered.flush();
+        log.info("Exported {} lands", rows);
+    }
+
+    private static String toCsvLine(LandSummaryResponse land) {
+        StringBuilder line = new StringBuilder(128);
+        line.append(land.getId()).append(',')
+                .append(land.getOwnerId()).append(',')
+                .append(csv(land.getProvince())).append(',')
+                .append(csv(land.getDistrict())).append(',')
+                .append(csv(land.getSector())).append(',')
+                .append(land.getAreaSqMeters() != null ? land.getAreaSqMeters() : "").append(',')
+                .append(land.getAvailabilityType() != null ? land.getAvailabilityType().name() : "").append(',')
+                .append(land.getStatus() != null ? land.getStatus().name() : "").append(',')
+                .append(land.getCreatedAt() != null ? TIMESTAMP_FORMAT.format(land.getCreatedAt()) : "").append(',')
+                .append(land.getLatitude() != null ? land.getLatitude() : "").append(',')
+                .append(land.getLongitude() != null ? land.getLongitude() : "").append(',')
+                .append(land.getUpdatedAt() != null ? TIMESTAMP_FORMAT.format(land.getUpdatedAt()) : "")
+                .append('\n');
+        return line.toString();
+    }
+
+    /**
+     * Quotes a value when it contains a separator, quote or line break (RFC 4180).
+     */
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
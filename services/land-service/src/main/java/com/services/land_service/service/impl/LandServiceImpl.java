@@ -1,22 +1,49 @@
 package com.services.land_service.service.impl;
 
+import com.services.land_service.cache.LandDetailCache;
 import com.services.land_service.dto.*;
 import com.services.land_service.entity.Land;
+import com.services.land_service.entity.Land.AvailabilityType;
 import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.event.LandChangedEvent;
+import com.services.land_service.event.LandSnapshot;
 import com.services.land_service.exception.LandNotFoundException;
 import com.services.land_service.mapper.LandMapper;
+import com.services.land_service.repository.LandKeyset;
 import com.services.land_service.repository.LandRepository;
+import com.services.land_service.repository.LandSpecifications;
+import com.services.land_service.search.AvailableLandSnapshot;
+import com.services.land_service.search.AvailableLandTable;
+import com.services.land_service.search.LandSpatialIndex;
+import com.services.land_service.search.SpatialGrid;
 import com.services.land_service.service.LandService;
+import com.services.land_service.statistics.LandStatistics;
 import jakarta.ws.rs.ForbiddenException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -25,60 +52,101 @@ public class LandServiceImpl implements LandService {
 
     private final LandRepository landRepository;
     private final LandMapper landMapper;
+    private final LandDetailCache landDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final LandSpatialIndex landSpatialIndex;
+    private final AvailableLandSnapshot availableLandSnapshot;
+    private final LandStatistics landStatistics;
+
+    @Value("${application.land.spatial-index.max-radius-km:100}")
+    private double maxSearchRadiusKm;
+
+    @Value("${application.land.spatial-index.max-box-area-sq-degrees:4}")
+    private double maxSearchBoxAreaSqDegrees;
 
     @Override
     @Transactional
     public LandResponse createLand(CreateLandRequest request,Long currentUserId) {
-        log.info("Creating new land in {}, {}, {}", request.getProvince(), request.getDistrict(), request.getSector());
+        log.debug("Creating new land in {}, {}, {}", request.getProvince(), request.getDistrict(), request.getSector());
 
-        Land land = new Land();
-        land.setOwnerId(currentUserId);
-        land.setProvince(request.getProvince());
-        land.setDistrict(request.getDistrict());
-        land.setSector(request.getSector());
-        land.setAreaSqMeters(request.getAreaSqMeters());
-        land.setAvailabilityType(request.getAvailabilityType());
-        land.setStatus(LandStatus.AVAILABLE);
-        land.setImageUrls(new ArrayList<>());
-        land.setDocumentUrls(new ArrayList<>());
-
-        Land savedLand = landRepository.save(land);
+        // Flushed so the event carries the generated createdAt
+        Land savedLand = landRepository.saveAndFlush(newLand(request, currentUserId));
+        eventPublisher.publishEvent(LandChangedEvent.created(savedLand));
         log.info("Land created successfully with ID: {}", savedLand.getId());
 
         return landMapper.toResponse(savedLand);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
+    public BulkOperationResponse createLands(List<CreateLandRequest> requests, Long currentUserId) {
+        log.debug("Creating {} lands in bulk", requests.size());
+
+        List<Land> lands = new ArrayList<>(requests.size());
+        for (CreateLandRequest request : requests) {
+            lands.add(newLand(request, currentUserId));
+        }
+
+        // Ids come from the pooled sequence, so the INSERTs are sent as JDBC batches at flush time
+        List<Land> savedLands = landRepository.saveAll(lands);
+        landRepository.flush();
+
+        List<BulkOperationResponse.ItemResult> results = new ArrayList<>(savedLands.size());
+        for (int i = 0; i < savedLands.size(); i++) {
+            Long landId = savedLands.get(i).getId();
+            eventPublisher.publishEvent(LandChangedEvent.created(savedLands.get(i)));
+            results.add(new BulkOperationResponse.ItemResult(i, landId, BulkOperationResponse.Outcome.CREATED));
+        }
+
+        log.info("{} lands created successfully", savedLands.size());
+        return BulkOperationResponse.of(results);
+    }
+
+    @Override
     public LandResponse getLandById(Long id) {
-        log.info("Fetching land with ID: {}", id);
+        log.debug("Fetching land with ID: {}", id);
 
-        Land land = landRepository.findById(id)
-                .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
+        // Not @Transactional: cache hits must not open a transaction or borrow a connection
+        return landDetailCache.get(id, () -> transactionTemplate.execute(status -> {
+            Land land = landRepository.findWithCollectionsById(id)
+                    .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
+
+            return landMapper.toResponse(land);
+        }));
+    }
 
-        return landMapper.toResponse(land);
+    @Override
+    public LocalDateTime getLandLastModified(Long id) {
+        // From the cached detail when there is one (it is evicted on every change), else a one-column lookup
+        Optional<LandResponse> cached = landDetailCache.peek(id);
+        if (cached.isPresent()) {
+            return lastModified(cached.get());
+        }
+        return transactionTemplate.execute(status -> landRepository.findLastModifiedById(id))
+                .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LandSummaryResponse> getAllLands(Pageable pageable) {
-        log.info("Fetching all lands with pagination");
+        log.debug("Fetching all lands with pagination");
 
-        return landRepository.findAll(pageable)
-                .map(landMapper::toSummaryResponse);
+        return landRepository.findAllSummaries(pageable);
     }
 
     @Override
     @Transactional
     public LandResponse updateLand(Long id, UpdateLandRequest request, Long currentUserId) {
-        log.info("Updating land with ID: {}", id);
+        log.debug("Updating land with ID: {}", id);
 
-        Land land = landRepository.findById(id)
+        Land land = landRepository.findWithCollectionsById(id)
                 .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
 
         if (!land.getOwnerId().equals(currentUserId)) {
             throw new ForbiddenException("You don't have permission to update this land. Only the owner can update it.");
         }
+        LandSnapshot previous = LandSnapshot.of(land);
 
         // Update only provided fields
         if (request.getProvince() != null) {
@@ -96,8 +164,13 @@ public class LandServiceImpl implements LandService {
         if (request.getAvailabilityType() != null) {
             land.setAvailabilityType(request.getAvailabilityType());
         }
+        if (request.getLatitude() != null) {
+            land.setLatitude(request.getLatitude());
+            land.setLongitude(request.getLongitude());
+        }
 
         Land updatedLand = landRepository.save(land);
+        eventPublisher.publishEvent(LandChangedEvent.changed(previous, updatedLand));
         log.info("Land updated successfully: {}", id);
 
         return landMapper.toResponse(updatedLand);
@@ -106,17 +179,19 @@ public class LandServiceImpl implements LandService {
     @Override
     @Transactional
     public LandResponse updateLandStatus(Long id, LandStatus status, Long currentUserId) {
-        log.info("Updating land status for ID: {} to {}", id, status);
-
-        Land land = landRepository.findById(id)
-                .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
-
-        if (!land.getOwnerId().equals(currentUserId)) {
-            throw new ForbiddenException("You don't have permission to update this land status. Only the owner can update it.");
+        log.debug("Updating land status for ID: {} to {}", id, status);
+
+        // Ownership is checked by the WHERE clause of the conditional UPDATE, which also returns
+        // the prior state for the change event (statistics need the old status)
+        List<LandSnapshot> previous = landRepository.updateStatusByIdsAndOwnerId(
+                List.of(id), currentUserId, status, LocalDateTime.now());
+        if (previous.isEmpty()) {
+            throw notFoundOrForbidden(id, "You don't have permission to update this land status. Only the owner can update it.");
         }
 
-        land.setStatus(status);
-        Land updatedLand = landRepository.save(land);
+        Land updatedLand = landRepository.findWithCollectionsById(id)
+                .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
+        eventPublisher.publishEvent(LandChangedEvent.changed(previous.get(0), updatedLand));
 
         log.info("Land status updated successfully");
         return landMapper.toResponse(updatedLand);
@@ -124,64 +199,202 @@ public class LandServiceImpl implements LandService {
 
     @Override
     @Transactional
-    public void deleteLand(Long id, Long currentUserId) {
-        log.info("Deleting land with ID: {}", id);
+    public BulkOperationResponse updateLandStatuses(List<Long> ids, LandStatus status, Long currentUserId) {
+        log.debug("Updating status of {} lands to {}", ids.size(), status);
+
+        // The UPDATE returns the prior state of each land it changed, and only changes the status
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Set<Long> updated = new HashSet<>();
+        landRepository.updateStatusByIdsAndOwnerId(requested, currentUserId, status, LocalDateTime.now())
+                .forEach(snapshot -> {
+                    updated.add(snapshot.id());
+                    eventPublisher.publishEvent(LandChangedEvent.changed(snapshot, snapshot.withStatus(status)));
+                });
+
+        log.info("Status updated for {} of {} lands", updated.size(), ids.size());
+        return bulkResults(ids, updated, BulkOperationResponse.Outcome.UPDATED);
+    }
 
-        Land land = landRepository.findById(id)
-                .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
+    @Override
+    @Transactional
+    public void deleteLand(Long id, Long currentUserId) {
+        log.debug("Deleting land with ID: {}", id);
 
-        // Check ownership
-        if (!land.getOwnerId().equals(currentUserId)) {
-            throw new ForbiddenException("You don't have permission to delete this land. Only the owner can delete it.");
+        // Single conditional DELETE of the land and its image/document rows, returning the
+        // deleted land for the change event
+        List<LandSnapshot> deleted = landRepository.deleteByIdsAndOwnerId(List.of(id), currentUserId);
+        if (deleted.isEmpty()) {
+            throw notFoundOrForbidden(id, "You don't have permission to delete this land. Only the owner can delete it.");
         }
 
-        landRepository.deleteById(id);
+        eventPublisher.publishEvent(LandChangedEvent.deleted(deleted.get(0)));
         log.info("Land deleted successfully: {}", id);
     }
 
+    @Override
+    @Transactional
+    public BulkOperationResponse deleteLands(List<Long> ids, Long currentUserId) {
+        log.debug("Deleting {} lands in bulk", ids.size());
+
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Set<Long> deleted = new HashSet<>();
+        landRepository.deleteByIdsAndOwnerId(requested, currentUserId)
+                .forEach(snapshot -> {
+                    deleted.add(snapshot.id());
+                    eventPublisher.publishEvent(LandChangedEvent.deleted(snapshot));
+                });
+
+        log.info("{} of {} lands deleted", deleted.size(), ids.size());
+        return bulkResults(ids, deleted, BulkOperationResponse.Outcome.DELETED);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<LandSummaryResponse> searchLandsByLocation(String province, String district, String sector, Pageable pageable) {
-        log.info("Searching lands by location - Province: {}, District: {}, Sector: {}", province, district, sector);
+        log.debug("Searching lands by location - Province: {}, District: {}, Sector: {}", province, district, sector);
 
+        // Only the most specific location is used, as before, but through the indexed search
+        LandSearchRequest criteria = new LandSearchRequest();
         if (sector != null && !sector.isBlank()) {
-            return landRepository.findBySectorContainingIgnoreCase(sector, pageable)
-                    .map(landMapper::toSummaryResponse);
+            criteria.setSector(sector);
         } else if (district != null && !district.isBlank()) {
-            return landRepository.findByDistrictContainingIgnoreCase(district, pageable)
-                    .map(landMapper::toSummaryResponse);
+            criteria.setDistrict(district);
         } else if (province != null && !province.isBlank()) {
-            return landRepository.findByProvinceContainingIgnoreCase(province, pageable)
-                    .map(landMapper::toSummaryResponse);
+            criteria.setProvince(province);
+        } else {
+            return Page.empty();
+        }
+
+        return searchLands(criteria, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<LandSummaryResponse> searchLands(LandSearchRequest criteria, Pageable pageable) {
+        log.debug("Searching lands with criteria: {}", criteria);
+
+        Optional<AvailableLandTable.Matches> matches = availableLandSnapshot.find(criteria, pageable);
+        if (matches.isPresent()) {
+            return summariesPage(matches.get().ids(), pageable, matches.get().total());
+        }
+        return landRepository.findSummaries(LandSpecifications.matching(criteria), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<LandSummaryResponse> getLandsFeed(LandSearchRequest criteria, String sortBy, Sort.Direction direction,
+                                                          String cursor, int size, boolean includeTotal) {
+        log.debug("Fetching lands feed sorted by {} {} after cursor {}", sortBy, direction, cursor);
+
+        boolean first = cursor == null || cursor.isBlank();
+        LandKeyset.SortKey sortKey;
+        LandKeyset.Cursor position;
+        try {
+            sortKey = LandKeyset.SortKey.fromAttribute(sortBy);
+            position = first ? null : LandKeyset.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        Specification<Land> spec = LandSpecifications.matching(criteria);
+        if (!first) {
+            if (position.sortKey() != sortKey || position.direction() != direction) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match the requested sort");
+            }
+            spec = spec.and(LandKeyset.after(position));
         }
 
-        return Page.empty();
+        // Read one extra row to learn whether another page exists, instead of running a count query
+        List<LandSummaryResponse> rows = landRepository.findSummaries(
+                spec, LandKeyset.sort(sortKey, direction), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<LandSummaryResponse> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? LandKeyset.encode(content.get(content.size() - 1), sortKey, direction)
+                : null;
+
+        // Table statistics describe the whole table, so the estimate is only meaningful without filters
+        Long approximateTotal = includeTotal && isUnfiltered(criteria)
+                ? Math.max(landRepository.estimateRowCount(), 0L)
+                : null;
+
+        return PageResponse.fromCursor(content, size, first, nextCursor, approximateTotal);
+    }
+
+    @Override
+    public Page<LandSummaryResponse> searchLandsNearby(double latitude, double longitude, double radiusKm,
+                                                       LandStatus status, AvailabilityType availabilityType, Pageable pageable) {
+        log.debug("Searching lands within {} km of {}, {}", radiusKm, latitude, longitude);
+
+        checkCoordinates(latitude, longitude);
+        if (!(radiusKm > 0) || radiusKm > maxSearchRadiusKm) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Radius must be greater than 0 and at most " + maxSearchRadiusKm + " km");
+        }
+
+        long[] ids = landSpatialIndex.withinRadius(latitude, longitude, radiusKm * 1000, status, availabilityType)
+                .stream()
+                .mapToLong(SpatialGrid.Hit::landId)
+                .toArray();
+        return summariesPage(ids, pageable);
+    }
+
+    @Override
+    public Page<LandSummaryResponse> searchLandsInBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                                      LandStatus status, AvailabilityType availabilityType, Pageable pageable) {
+        log.debug("Searching lands in box {}, {} - {}, {}", minLatitude, minLongitude, maxLatitude, maxLongitude);
+
+        checkCoordinates(minLatitude, minLongitude);
+        checkCoordinates(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The box minimum must not exceed its maximum");
+        }
+        if ((maxLatitude - minLatitude) * (maxLongitude - minLongitude) > maxSearchBoxAreaSqDegrees) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "The box must cover at most " + maxSearchBoxAreaSqDegrees + " square degrees");
+        }
+
+        long[] ids = landSpatialIndex.withinBox(minLatitude, minLongitude, maxLatitude, maxLongitude, status, availabilityType);
+        return summariesPage(ids, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LandSummaryResponse> getLandsByStatus(LandStatus status, Pageable pageable) {
-        log.info("Fetching lands with status: {}", status);
+        log.debug("Fetching lands with status: {}", status);
 
-        return landRepository.findByStatus(status, pageable)
-                .map(landMapper::toSummaryResponse);
+        LandSearchRequest criteria = new LandSearchRequest();
+        criteria.setStatus(status);
+        Optional<AvailableLandTable.Matches> matches = availableLandSnapshot.find(criteria, pageable);
+        if (matches.isPresent()) {
+            return summariesPage(matches.get().ids(), pageable, matches.get().total());
+        }
+        return landRepository.findSummariesByStatus(status, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LandSummaryResponse> getLandsByAreaRange(Double minArea, Double maxArea, Pageable pageable) {
-        log.info("Fetching lands with area between {} and {} sq meters", minArea, maxArea);
+        log.debug("Fetching lands with area between {} and {} sq meters", minArea, maxArea);
+
+        return landRepository.findSummariesByAreaRange(minArea, maxArea, pageable);
+    }
+
+    @Override
+    public LandStatisticsResponse getStatistics(LandStatus status, AvailabilityType availabilityType) {
+        log.debug("Fetching land statistics - Status: {}, Availability: {}", status, availabilityType);
 
-        return landRepository.findByAreaSqMetersBetween(minArea, maxArea, pageable)
-                .map(landMapper::toSummaryResponse);
+        // Served from the in-memory counters: no query, cost proportional to the number of buckets
+        return landStatistics.summarize(status, availabilityType);
     }
 
     @Override
     @Transactional
     public LandResponse addImages(Long id, List<String> imageUrls, Long currentUserId) {
-        log.info("Adding {} images to land ID: {}", imageUrls.size(), id);
+        log.debug("Adding {} images to land ID: {}", imageUrls.size(), id);
 
-        Land land = landRepository.findById(id)
+        Land land = landRepository.findWithCollectionsById(id)
                 .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
 
         // Check ownership
@@ -189,8 +402,11 @@ public class LandServiceImpl implements LandService {
             throw new ForbiddenException("You don't have permission to upload images this land. Only the owner can do it.");
         }
 
+        LandSnapshot previous = LandSnapshot.of(land);
         land.getImageUrls().addAll(imageUrls);
+        touch(land);
         Land updatedLand = landRepository.save(land);
+        eventPublisher.publishEvent(LandChangedEvent.changed(previous, updatedLand));
 
         log.info("Images added successfully");
         return landMapper.toResponse(updatedLand);
@@ -199,9 +415,9 @@ public class LandServiceImpl implements LandService {
     @Override
     @Transactional
     public LandResponse addDocuments(Long id, List<String> documentUrls, Long currentUserId) {
-        log.info("Adding {} documents to land ID: {}", documentUrls.size(), id);
+        log.debug("Adding {} documents to land ID: {}", documentUrls.size(), id);
 
-        Land land = landRepository.findById(id)
+        Land land = landRepository.findWithCollectionsById(id)
                 .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
 
         // Check ownership
@@ -209,8 +425,11 @@ public class LandServiceImpl implements LandService {
             throw new ForbiddenException("You don't have permission to upload documents to this land. Only the owner can do it.");
         }
 
+        LandSnapshot previous = LandSnapshot.of(land);
         land.getDocumentUrls().addAll(documentUrls);
+        touch(land);
         Land updatedLand = landRepository.save(land);
+        eventPublisher.publishEvent(LandChangedEvent.changed(previous, updatedLand));
 
         log.info("Documents added successfully");
         return landMapper.toResponse(updatedLand);
@@ -219,9 +438,9 @@ public class LandServiceImpl implements LandService {
     @Override
     @Transactional
     public LandResponse removeImage(Long id, String imageUrl, Long currentUserId) {
-        log.info("Removing image from land ID: {}", id);
+        log.debug("Removing image from land ID: {}", id);
 
-        Land land = landRepository.findById(id)
+        Land land = landRepository.findWithCollectionsById(id)
                 .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
 
         // Check ownership
@@ -229,8 +448,11 @@ public class LandServiceImpl implements LandService {
             throw new ForbiddenException("You don't have permission to upload documents to this land. Only the owner can do it.");
         }
 
+        LandSnapshot previous = LandSnapshot.of(land);
         land.getImageUrls().remove(imageUrl);
+        touch(land);
         Land updatedLand = landRepository.save(land);
+        eventPublisher.publishEvent(LandChangedEvent.changed(previous, updatedLand));
 
         log.info("Image removed successfully");
         return landMapper.toResponse(updatedLand);
@@ -239,9 +461,9 @@ public class LandServiceImpl implements LandService {
     @Override
     @Transactional
     public LandResponse removeDocument(Long id, String documentUrl, Long currentUserId) {
-        log.info("Removing document from land ID: {}", id);
+        log.debug("Removing document from land ID: {}", id);
 
-        Land land = landRepository.findById(id)
+        Land land = landRepository.findWithCollectionsById(id)
                 .orElseThrow(() -> new LandNotFoundException("Land not found with ID: " + id));
 
         // Check ownership
@@ -249,10 +471,124 @@ public class LandServiceImpl implements LandService {
             throw new ForbiddenException("You don't have permission to upload documents to this land. Only the owner can do it.");
         }
 
+        LandSnapshot previous = LandSnapshot.of(land);
         land.getDocumentUrls().remove(documentUrl);
+        touch(land);
         Land updatedLand = landRepository.save(land);
+        eventPublisher.publishEvent(LandChangedEvent.changed(previous, updatedLand));
 
         log.info("Document removed successfully");
         return landMapper.toResponse(updatedLand);
     }
-}
\ No newline at end of file
+
+    private static Land newLand(CreateLandRequest request, Long ownerId) {
+        Land land = new Land();
+        land.setOwnerId(ownerId);
+        land.setProvince(request.getProvince());
+        land.setDistrict(request.getDistrict());
+        land.setSector(request.getSector());
+        land.setAreaSqMeters(request.getAreaSqMeters());
+        land.setAvailabilityType(request.getAvailabilityType());
+        land.setLatitude(request.getLatitude());
+        land.setLongitude(request.getLongitude());
+        land.setStatus(LandStatus.AVAILABLE);
+        land.setImageUrls(new ArrayList<>());
+        land.setDocumentUrls(new ArrayList<>());
+        return land;
+    }
+
+    /**
+     * One result per requested id, in request order. Ids the statement did not touch are reported
+     * as FORBIDDEN when the land exists (owned by someone else) and NOT_FOUND otherwise.
+     */
+    private BulkOperationResponse bulkResults(List<Long> ids, Set<Long> succeeded, BulkOperationResponse.Outcome outcome) {
+        Set<Long> missed = new LinkedHashSet<>(ids);
+        missed.removeAll(succeeded);
+        Set<Long> existing = missed.isEmpty()
+                ? Set.of()
+                : new HashSet<>(landRepository.findExistingIds(missed));
+
+        List<BulkOperationResponse.ItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            BulkOperationResponse.Outcome result = succeeded.contains(id) ? outcome
+                    : existing.contains(id) ? BulkOperationResponse.Outcome.FORBIDDEN
+                    : BulkOperationResponse.Outcome.NOT_FOUND;
+            results.add(new BulkOperationResponse.ItemResult(i, id, result));
+        }
+        return BulkOperationResponse.of(results);
+    }
+
+    /**
+     * One page of the ids matched by the spatial index, in index order.
+     */
+    private Page<LandSummaryResponse> summariesPage(long[] ids, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+        return summariesPage(Arrays.copyOfRange(ids, from, to), pageable, ids.length);
+    }
+
+    /**
+     * Reads the summaries of one page of ids matched in memory, keeping their order.
+     * Only the page is read from the database (by primary key); the total comes from the read model.
+     */
+    private Page<LandSummaryResponse> summariesPage(long[] pageIdArray, Pageable pageable, long total) {
+        if (pageIdArray.length == 0) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        List<Long> pageIds = Arrays.stream(pageIdArray).boxed().toList();
+        Map<Long, LandSummaryResponse> byId = new HashMap<>();
+        for (LandSummaryResponse summary : landRepository.findSummariesByIdIn(pageIds)) {
+            byId.put(summary.getId(), summary);
+        }
+
+        // A land deleted since the index was read is simply left out of the page
+        List<LandSummaryResponse> content = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            LandSummaryResponse summary = byId.get(id);
+            if (summary != null) {
+                content.add(summary);
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static void checkCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Coordinates out of range: " + latitude + ", " + longitude);
+        }
+    }
+
+    private static boolean isUnfiltered(LandSearchRequest criteria) {
+        return (criteria.getProvince() == null || criteria.getProvince().isBlank())
+                && (criteria.getDistrict() == null || criteria.getDistrict().isBlank())
+                && (criteria.getSector() == null || criteria.getSector().isBlank())
+                && criteria.getStatus() == null
+                && criteria.getAvailabilityType() == null
+                && criteria.getMinArea() == null
+                && criteria.getMaxArea() == null;
+    }
+
+    /**
+     * Collection-only changes do not update the lands row, so @UpdateTimestamp would not move
+     * and conditional GETs would keep answering 304; dirtying updatedAt makes Hibernate stamp it.
+     */
+    private static void touch(Land land) {
+        land.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private static LocalDateTime lastModified(LandResponse land) {
+        return land.getUpdatedAt() != null ? land.getUpdatedAt() : land.getCreatedAt();
+    }
+
+    /**
+     * Only called when a conditional statement matched no row: tells apart a missing land from one owned by someone else.
+     */
+    private RuntimeException notFoundOrForbidden(Long id, String forbiddenMessage) {
+        if (landRepository.existsById(id)) {
+            return new ForbiddenException(forbiddenMessage);
+        }
+        return new LandNotFoundException("Land not found with ID: " + id);
+    }
+}
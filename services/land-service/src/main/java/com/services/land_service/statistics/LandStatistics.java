@@ -0,0 +1,277 @@
+package com.services.land_service.statistics;
+
+import com.services.land_service.dto.LandStatisticsResponse;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.entity.LandStatisticsEntry;
+import com.services.land_service.event.LandChangedEvent;
+import com.services.land_service.event.LandSnapshot;
+import com.services.land_service.repository.LandRepository;
+import com.services.land_service.repository.LandStatisticsRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Marketplace statistics kept as in-memory counters, moved by the {@link LandChangedEvent}s that
+ * LandServiceImpl publishes after commit. The counters are saved to land_statistics every
+ * persist-interval (and on shutdown) and restored from it at startup; only the very first start
+ * aggregates the lands table.
+ *
+ * <p>Every reconcile-interval the counters are recomputed with one GROUP BY and replaced, which
+ * repairs anything they missed: writes by other instances, changes made while this one was down,
+ * and concurrent writers to the same land. Lands changed while it runs are re-read in the query's
+ * snapshot and moved from that state to their latest one, so a change is counted once whether or
+ * not the query saw it.
+ *
+ * <p>Each replica saves its own counters; an advisory lock keeps two from rewriting the table at once.
+ */
+@Slf4j
+@Component
+public class LandStatistics {
+
+    private final LandStatisticsRepository statisticsRepository;
+    private final LandRepository landRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTemplate;
+    private final Timer reconcileTimer;
+    private final Lock lock = new ReentrantLock();
+
+    private LandStatisticsCounters counters;
+    // Changes to replay on counters being loaded or recomputed; null when neither is in progress
+    private List<LandChangedEvent> recorded = new ArrayList<>();
+    private boolean dirty;
+    private LocalDateTime reconciledAt;
+
+    public LandStatistics(
+            LandStatisticsRepository statisticsRepository,
+            LandRepository landRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.statisticsRepository = statisticsRepository;
+        this.landRepository = landRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        // Every statement of a reconcile sees the snapshot taken by its GROUP BY
+        this.snapshotTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+
+        this.reconcileTimer = Timer.builder("land.statistics.reconcile")
+                .description("Time to recompute the land statistics from the lands table")
+                .register(meterRegistry);
+        Gauge.builder("land.statistics.buckets", this, LandStatistics::buckets)
+                .description("Buckets held by the land statistics counters")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<LandStatisticsEntry> saved = transactionTemplate.execute(status -> statisticsRepository.findAll());
+        if (saved == null || saved.isEmpty()) {
+            reconcile();
+            return;
+        }
+
+        lock.lock();
+        try {
+            int replayed = install(LandStatisticsCounters.of(saved));
+            dirty = replayed > 0;
+            log.info("Land statistics restored {} buckets ({} changes replayed)", counters.size(), replayed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLandChanged(LandChangedEvent event) {
+        lock.lock();
+        try {
+            if (recorded != null) {
+                recorded.add(event);
+            }
+            if (counters != null) {
+                counters.apply(event);
+                dirty = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${application.land.statistics.reconcile-interval:15m}",
+            fixedDelayString = "${application.land.statistics.reconcile-interval:15m}")
+    public void reconcile() {
+        lock.lock();
+        try {
+            if (recorded == null) {
+                recorded = new ArrayList<>();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        long start = System.nanoTime();
+        try {
+            snapshotTemplate.executeWithoutResult(status -> {
+                List<LandStatisticsEntry> counted = statisticsRepository.countLands();
+                LandStatisticsCounters fresh = LandStatisticsCounters.of(counted);
+
+                // State of each land changed since recording started, as the GROUP BY saw it (null: absent)
+                Map<Long, LandSnapshot> seen = new HashMap<>();
+                while (true) {
+                    Set<Long> unseen = new HashSet<>();
+                    lock.lock();
+                    try {
+                        recorded.forEach(event -> {
+                            if (!seen.containsKey(event.getLandId())) {
+                                unseen.add(event.getLandId());
+                            }
+                        });
+                        if (unseen.isEmpty()) {
+                            LandStatisticsCounters previous = counters;
+                            int replayed = installReconciled(fresh, seen);
+                            dirty = true;
+                            reconciledAt = LocalDateTime.now();
+                            log.info("Land statistics reconciled: {} buckets, {} differed, {} changes replayed", fresh.size(),
+                                    previous == null ? "none" : previous.countDifferences(fresh), replayed);
+                            return;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    unseen.forEach(landId -> seen.put(landId, null));
+                    landRepository.findSnapshotsByIdIn(unseen).forEach(land -> seen.put(land.id(), land));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                // Keep the current counters; stop recording unless they are still loading
+                if (counters != null) {
+                    recorded = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        reconcileTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        persist();
+    }
+
+    @PreDestroy
+    @Scheduled(initialDelayString = "${application.land.statistics.persist-interval:1m}",
+            fixedDelayString = "${application.land.statistics.persist-interval:1m}")
+    public void persist() {
+        List<LandStatisticsEntry> entries;
+        lock.lock();
+        try {
+            if (counters == null || !dirty) {
+                return;
+            }
+            entries = counters.entries();
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            Boolean saved = transactionTemplate.execute(status -> {
+                if (!statisticsRepository.tryLockForRewrite()) {
+                    return false;
+                }
+                statisticsRepository.deleteAllInBatch();
+                statisticsRepository.saveAll(entries);
+                return true;
+            });
+            if (!Boolean.TRUE.equals(saved)) {
+                // Another replica is saving its counters; these are saved next time
+                markDirty();
+            }
+        } catch (RuntimeException e) {
+            markDirty();
+            throw e;
+        }
+    }
+
+    /**
+     * Totals restricted to a status and/or availability type (null for all).
+     */
+    public LandStatisticsResponse summarize(LandStatus status, AvailabilityType availabilityType) {
+        lock.lock();
+        try {
+            if (counters == null) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "The land statistics are still loading");
+            }
+            LandStatisticsResponse response = counters.summarize(status, availabilityType);
+            response.setReconciledAt(reconciledAt);
+            return response;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int buckets() {
+        lock.lock();
+        try {
+            return counters == null ? 0 : counters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void markDirty() {
+        lock.lock();
+        try {
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called with the lock held; moves each recorded land from its state in the GROUP BY to its latest one
+    private int installReconciled(LandStatisticsCounters fresh, Map<Long, LandSnapshot> seen) {
+        Map<Long, LandSnapshot> latest = new HashMap<>();
+        recorded.forEach(event -> latest.put(event.getLandId(), event.getCurrent()));
+        latest.forEach((landId, land) -> fresh.move(seen.get(landId), land));
+
+        int replayed = recorded.size();
+        counters = fresh;
+        recorded = null;
+        return replayed;
+    }
+
+    // Called with the lock held; returns the number of changes replayed
+    private int install(LandStatisticsCounters loaded) {
+        int replayed = recorded.size();
+        recorded.forEach(loaded::apply);
+        counters = loaded;
+        recorded = null;
+        return replayed;
+    }
+}
@@ -0,0 +1,155 @@
+package com.services.land_service.statistics;
+
+import com.services.land_service.dto.LandStatisticsResponse;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.entity.LandStatisticsEntry;
+import com.services.land_service.entity.LandStatisticsEntry.Key;
+import com.services.land_service.event.LandChangedEvent;
+import com.services.land_service.event.LandSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Land count and total area per (province, district, status, availability type) bucket.
+ * A change moves the land out of its previous bucket and into its current one, so the cost
+ * of an update and the size of a summary depend on the number of buckets, not of lands.
+ * Not thread-safe: {@link LandStatistics} guards it with a lock.
+ */
+public final class LandStatisticsCounters {
+
+    private final Map<Key, Totals> buckets = new HashMap<>();
+
+    private static final class Totals {
+        long landCount;
+        double totalAreaSqMeters;
+    }
+
+    public static LandStatisticsCounters of(Collection<LandStatisticsEntry> entries) {
+        LandStatisticsCounters counters = new LandStatisticsCounters();
+        // Several stored locations can normalize to the same key (a null and an empty name)
+        entries.forEach(entry -> counters.add(entry.getKey(), entry.getLandCount(), entry.getTotalAreaSqMeters()));
+        return counters;
+    }
+
+    public void apply(LandChangedEvent event) {
+        move(event.getPrevious(), event.getCurrent());
+    }
+
+    /**
+     * Moves a land from the state these counters hold it in to another; null for absent.
+     */
+    public void move(LandSnapshot from, LandSnapshot to) {
+        if (from != null) {
+            add(from, -1);
+        }
+        if (to != null) {
+            add(to, 1);
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public List<LandStatisticsEntry> entries() {
+        List<LandStatisticsEntry> entries = new ArrayList<>(buckets.size());
+        buckets.forEach((key, totals) -> entries.add(new LandStatisticsEntry(key, totals.landCount, totals.totalAreaSqMeters)));
+        return entries;
+    }
+
+    /**
+     * Number of buckets whose land count differs between the two.
+     */
+    public int countDifferences(LandStatisticsCounters other) {
+        int differences = 0;
+        for (Map.Entry<Key, Totals> bucket : buckets.entrySet()) {
+            Totals otherTotals = other.buckets.get(bucket.getKey());
+            if (otherTotals == null || otherTotals.landCount != bucket.getValue().landCount) {
+                differences++;
+            }
+        }
+        for (Key key : other.buckets.keySet()) {
+            if (!buckets.containsKey(key)) {
+                differences++;
+            }
+        }
+        return differences;
+    }
+
+    /**
+     * Totals over the buckets with the given status and availability type (either may be null for all).
+     */
+    public LandStatisticsResponse summarize(LandStatus status, AvailabilityType availabilityType) {
+        Totals overall = new Totals();
+        Map<String, Totals> byProvince = new TreeMap<>();
+        Map<String, Map<String, Totals>> byDistrict = new TreeMap<>();
+        Map<LandStatus, Totals> byStatus = new EnumMap<>(LandStatus.class);
+        Map<AvailabilityType, Totals> byAvailabilityType = new EnumMap<>(AvailabilityType.class);
+
+        buckets.forEach((key, totals) -> {
+            if ((status != null && key.status() != status)
+                    || (availabilityType != null && key.availabilityType() != availabilityType)) {
+                return;
+            }
+            add(overall, totals);
+            add(byProvince.computeIfAbsent(key.province(), province -> new Totals()), totals);
+            add(byDistrict.computeIfAbsent(key.province(), province -> new TreeMap<>())
+                    .computeIfAbsent(key.district(), district -> new Totals()), totals);
+            add(byStatus.computeIfAbsent(key.status(), s -> new Totals()), totals);
+            add(byAvailabilityType.computeIfAbsent(key.availabilityType(), type -> new Totals()), totals);
+        });
+
+        List<LandStatisticsResponse.LocationTotals> provinces = new ArrayList<>(byProvince.size());
+        byProvince.forEach((province, totals) -> provinces.add(locationTotals(province, null, totals)));
+        List<LandStatisticsResponse.LocationTotals> districts = new ArrayList<>();
+        byDistrict.forEach((province, inProvince) -> inProvince.forEach((district, totals) ->
+                districts.add(locationTotals(province, district, totals))));
+
+        return LandStatisticsResponse.builder()
+                .landCount(overall.landCount)
+                .totalAreaSqMeters(overall.totalAreaSqMeters)
+                .byProvince(provinces)
+                .byDistrict(districts)
+                .byStatus(totals(byStatus, new EnumMap<>(LandStatus.class)))
+                .byAvailabilityType(totals(byAvailabilityType, new EnumMap<>(AvailabilityType.class)))
+                .build();
+    }
+
+    private void add(LandSnapshot land, int sign) {
+        add(Key.of(land.province(), land.district(), land.status(), land.availabilityType()),
+                sign, sign * Objects.requireNonNullElse(land.areaSqMeters(), 0.0));
+    }
+
+    private void add(Key key, long landCount, double totalAreaSqMeters) {
+        Totals totals = buckets.computeIfAbsent(key, k -> new Totals());
+        totals.landCount += landCount;
+        totals.totalAreaSqMeters += totalAreaSqMeters;
+        // Dropping empty buckets also discards the rounding left by adding and subtracting areas
+        if (totals.landCount == 0) {
+            buckets.remove(key);
+        }
+    }
+
+    private static void add(Totals sum, Totals totals) {
+        sum.landCount += totals.landCount;
+        sum.totalAreaSqMeters += totals.totalAreaSqMeters;
+    }
+
+    private static LandStatisticsResponse.LocationTotals locationTotals(String province, String district, Totals totals) {
+        return new LandStatisticsResponse.LocationTotals(province, district, totals.landCount, totals.totalAreaSqMeters);
+    }
+
+    private static <K extends Enum<K>> Map<K, LandStatisticsResponse.Totals> totals(Map<K, Totals> totals,
+                                                                                   Map<K, LandStatisticsResponse.Totals> result) {
+        totals.forEach((key, sum) -> result.put(key, new LandStatisticsResponse.Totals(sum.landCount, sum.totalAreaSqMeters)));
+        return result;
+    }
+}
@@ -0,0 +1,14 @@
+-- Runs after Hibernate has updated the schema (spring.jpa.defer-datasource-initialization).
+-- Everything here must be idempotent: it is executed on every startup.
+
+-- The pg_trgm extension and trigram indexes are set up once by db/trigram-search.sql
+
+-- Backfill normalized location columns for rows written before they existed
+UPDATE lands
+SET province_normalized = lower(trim(province)),
+    district_normalized = lower(trim(district)),
+    sector_normalized   = lower(trim(sector))
+WHERE province_normalized IS NULL
+  AND (province IS NOT NULL OR district IS NOT NULL OR sector IS NOT NULL);
+
+-- Databases from before the pooled lands_seq are upgraded once by db/pooled-id-sequence.sql
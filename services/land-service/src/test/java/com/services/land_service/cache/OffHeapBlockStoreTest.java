@@ -0,0 +1,46 @@
+package com.services.land_service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapBlockStoreTest {
+
+    @Test
+    void payloadsRoundTripAcrossBlocksAndFreedBlocksAreReused() throws Exception {
+        OffHeapBlockStore store = new OffHeapBlockStore(64, 256, 512);
+        byte[] large = new byte[300];
+        byte[] small = new byte[10];
+        new Random(7).nextBytes(large);
+        new Random(8).nextBytes(small);
+
+        int[] largeBlocks = store.store(large, large.length);
+        int[] smallBlocks = store.store(small, small.length);
+        assertThat(largeBlocks).hasSize(5);
+        assertThat(smallBlocks).hasSize(1);
+        assertThat(store.usedBytes()).isEqualTo(6 * 64);
+        assertThat(read(store, largeBlocks, large.length)).isEqualTo(large);
+        assertThat(store.inputStream(smallBlocks, small.length).readAllBytes()).isEqualTo(small);
+
+        // Eight blocks in all: a payload needing three more does not fit until the large one is freed
+        assertThat(store.store(large, 150)).isNull();
+        store.free(largeBlocks);
+        int[] reused = store.store(large, 150);
+        assertThat(reused).hasSize(3);
+        assertThat(read(store, reused, 150)).isEqualTo(Arrays.copyOf(large, 150));
+        assertThat(store.reservedBytes()).isEqualTo(512);
+    }
+
+    private static byte[] read(OffHeapBlockStore store, int[] blocks, int length) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        store.writeTo(blocks, length, channel::write);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,120 @@
+package com.services.land_service.repository;
+
+import com.services.land_service.dto.LandResponse;
+import com.services.land_service.dto.LandSearchRequest;
+import com.services.land_service.dto.LandSummaryResponse;
+import com.services.land_service.entity.Land;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.mapper.LandMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against summary listings touching the image/document collections again.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class LandRepositoryStatementCountTest {
+
+    private static final int LAND_COUNT = 60;
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private LandRepository landRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Long firstLandId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < LAND_COUNT; i++) {
+            Land land = new Land();
+            land.setOwnerId(1L);
+            land.setProvince("Southern");
+            land.setDistrict("Huye");
+            land.setSector("Ngoma");
+            land.setAreaSqMeters(1000.0 + i);
+            land.setAvailabilityType(AvailabilityType.SALE);
+            land.setStatus(LandStatus.AVAILABLE);
+            land.setImageUrls(new ArrayList<>(List.of("https://example.com/" + i + "/a.jpg", "https://example.com/" + i + "/b.jpg")));
+            land.setDocumentUrls(new ArrayList<>(List.of("https://example.com/" + i + "/title.pdf")));
+
+            Land saved = landRepository.save(land);
+            if (firstLandId == null) {
+                firstLandId = saved.getId();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void summaryPageIssuesOnlyPageAndCountQueries() {
+        Page<LandSummaryResponse> page = landRepository.findAllSummaries(
+                PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending()));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(LAND_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void searchPageIssuesOnlyPageAndCountQueries() {
+        LandSearchRequest criteria = LandSearchRequest.builder()
+                .district("huy")
+                .status(LandStatus.AVAILABLE)
+                .build();
+
+        Page<LandSummaryResponse> page = landRepository.findSummaries(
+                LandSpecifications.matching(criteria), PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending()));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void lastModifiedLookupReadsOnlyTheTimestamp() {
+        assertThat(landRepository.findLastModifiedById(firstLandId)).isPresent();
+        assertThat(landRepository.findLastModifiedById(-1L)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void detailLoadsBothCollectionsInTwoStatements() {
+        Land land = landRepository.findWithCollectionsById(firstLandId).orElseThrow();
+        LandResponse response = new LandMapper().toResponse(land);
+
+        assertThat(response.getImageUrls()).hasSize(2);
+        assertThat(response.getDocumentUrls()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,65 @@
+package com.services.land_service.repository;
+
+import com.services.land_service.entity.Land;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.entity.LandStatisticsEntry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class LandStatisticsRepositoryTest {
+
+    @Autowired
+    private LandRepository landRepository;
+
+    @Autowired
+    private LandStatisticsRepository statisticsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void countsLandsPerBucketAndSavesTheCounters() {
+        landRepository.save(land("Southern", "Huye", 1000.0, LandStatus.AVAILABLE));
+        landRepository.save(land(" southern", "HUYE", 500.0, LandStatus.AVAILABLE));
+        landRepository.save(land("Kigali", "Gasabo", 300.0, LandStatus.SOLD));
+        entityManager.flush();
+
+        List<LandStatisticsEntry> counted = statisticsRepository.countLands();
+        assertThat(counted).hasSize(2);
+        LandStatisticsEntry huye = counted.stream()
+                .filter(entry -> entry.getKey().equals(LandStatisticsEntry.Key.of("Southern", "Huye", LandStatus.AVAILABLE, AvailabilityType.SALE)))
+                .findFirst()
+                .orElseThrow();
+        assertThat(huye.getLandCount()).isEqualTo(2);
+        assertThat(huye.getTotalAreaSqMeters()).isEqualTo(1500.0);
+
+        statisticsRepository.saveAll(counted);
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(statisticsRepository.findAll()).hasSize(2).allMatch(entry -> !entry.isNew());
+    }
+
+    private static Land land(String province, String district, Double area, LandStatus status) {
+        Land land = new Land();
+        land.setOwnerId(1L);
+        land.setProvince(province);
+        land.setDistrict(district);
+        land.setSector("Ngoma");
+        land.setAreaSqMeters(area);
+        land.setAvailabilityType(AvailabilityType.SALE);
+        land.setStatus(status);
+        return land;
+    }
+}
@@ -0,0 +1,100 @@
+package com.services.land_service.search;
+
+import com.services.land_service.dto.LandSearchRequest;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.repository.LandKeyset.SortKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailableLandTableTest {
+
+    private AvailableLandTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new AvailableLandTable();
+        table.put(1, 500, AvailabilityType.SALE, "Southern", "Huye", "Ngoma", 300);
+        table.put(2, 1500, AvailabilityType.RENT, "Southern", "Huye", "Tumba", 100);
+        table.put(3, 2500, AvailabilityType.SALE, "Kigali", "Gasabo", "Remera", 200);
+        table.put(4, 3500, AvailabilityType.SALE, "Southern", "Nyanza", "Busasamana", 200);
+    }
+
+    @Test
+    void filtersByAvailabilityAreaAndLocation() {
+        LandSearchRequest criteria = new LandSearchRequest();
+        criteria.setAvailabilityType(AvailabilityType.SALE);
+        criteria.setMinArea(1000.0);
+
+        AvailableLandTable.Matches matches = table.query(criteria, SortKey.ID, false, 0, 10);
+        assertThat(matches.ids()).containsExactly(3L, 4L);
+        assertThat(matches.total()).isEqualTo(2);
+
+        criteria.setProvince(" SOUTH");
+        assertThat(table.query(criteria, SortKey.ID, false, 0, 10).ids()).containsExactly(4L);
+
+        criteria.setExactLocation(true);
+        assertThat(table.query(criteria, SortKey.ID, false, 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void ordersBySortKeyThenIdAndPages() {
+        LandSearchRequest criteria = new LandSearchRequest();
+
+        assertThat(table.query(criteria, SortKey.CREATED_AT, true, 0, 10).ids()).containsExactly(1L, 4L, 3L, 2L);
+        assertThat(table.query(criteria, SortKey.AREA, false, 1, 2).ids()).containsExactly(2L, 3L);
+        assertThat(table.query(criteria, SortKey.ID, true, 2, 10).ids()).containsExactly(2L, 1L);
+        assertThat(table.query(criteria, SortKey.ID, true, 2, 10).total()).isEqualTo(4);
+    }
+
+    @Test
+    void vectorizedScanAgreesWithScalarScan() {
+        AvailableLandTable scalar = new AvailableLandTable(false);
+        AvailableLandTable vectorized = new AvailableLandTable(true);
+        AvailabilityType[] types = AvailabilityType.values();
+        SplittableRandom random = new SplittableRandom(7);
+        for (long id = 1; id <= 5_003; id++) {
+            double area = random.nextInt(10_000);
+            AvailabilityType type = types[random.nextInt(types.length)];
+            String district = "District " + random.nextInt(5);
+            long createdAt = random.nextInt(1_000);
+            scalar.put(id, area, type, "Southern", district, "Sector", createdAt);
+            vectorized.put(id, area, type, "Southern", district, "Sector", createdAt);
+            if (id % 7 == 0) {
+                scalar.remove(id - 3);
+                vectorized.remove(id - 3);
+            }
+        }
+
+        LandSearchRequest criteria = new LandSearchRequest();
+        criteria.setAvailabilityType(AvailabilityType.SALE);
+        criteria.setMinArea(2_000.0);
+        criteria.setMaxArea(8_000.0);
+        for (int round = 0; round < 2; round++) {
+            for (SortKey sortKey : SortKey.values()) {
+                for (boolean descending : new boolean[]{false, true}) {
+                    AvailableLandTable.Matches expected = scalar.query(criteria, sortKey, descending, 40, 20);
+                    AvailableLandTable.Matches actual = vectorized.query(criteria, sortKey, descending, 40, 20);
+                    assertThat(actual.ids()).containsExactly(expected.ids());
+                    assertThat(actual.total()).isEqualTo(expected.total());
+                }
+            }
+            criteria.setDistrict("district 3");
+        }
+    }
+
+    @Test
+    void removedLandsAreLeftOutAndCanReturn() {
+        table.remove(2);
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(table.query(new LandSearchRequest(), SortKey.ID, false, 0, 10).ids()).containsExactly(1L, 3L, 4L);
+
+        table.put(2, 1500, AvailabilityType.RENT, "Southern", "Huye", "Tumba", 100);
+        table.put(0, 700, AvailabilityType.RENT, "Southern", "Huye", "Tumba", 50);
+        assertThat(table.size()).isEqualTo(5);
+        assertThat(table.query(new LandSearchRequest(), SortKey.ID, false, 0, 10).ids()).containsExactly(0L, 1L, 2L, 3L, 4L);
+    }
+}
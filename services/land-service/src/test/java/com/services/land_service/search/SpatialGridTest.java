@@ -0,0 +1,74 @@
+package com.services.land_service.search;
+
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SpatialGridTest {
+
+    // Kigali city centre
+    private static final double LATITUDE = -1.9441;
+    private static final double LONGITUDE = 30.0619;
+
+    private SpatialGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialGrid(0.01);
+        // Roughly 1.1 km, 3.3 km and 11 km north of the centre
+        grid.put(1, LATITUDE + 0.01, LONGITUDE, LandStatus.AVAILABLE, AvailabilityType.SALE);
+        grid.put(2, LATITUDE + 0.03, LONGITUDE, LandStatus.SOLD, AvailabilityType.SALE);
+        grid.put(3, LATITUDE + 0.10, LONGITUDE, LandStatus.AVAILABLE, AvailabilityType.RENT);
+    }
+
+    @Test
+    void radiusSearchReturnsLandsInsideTheCircleNearestFirst() {
+        assertThat(grid.withinRadius(LATITUDE, LONGITUDE, 5_000, null, null))
+                .extracting(SpatialGrid.Hit::landId)
+                .containsExactly(1L, 2L);
+
+        assertThat(grid.withinRadius(LATITUDE, LONGITUDE, 5_000, null, null).get(0).distanceMeters())
+                .isCloseTo(1_112, within(5.0));
+    }
+
+    @Test
+    void radiusSearchAppliesStatusAndAvailabilityFilters() {
+        assertThat(grid.withinRadius(LATITUDE, LONGITUDE, 20_000, LandStatus.AVAILABLE, null))
+                .extracting(SpatialGrid.Hit::landId)
+                .containsExactly(1L, 3L);
+        assertThat(grid.withinRadius(LATITUDE, LONGITUDE, 20_000, LandStatus.AVAILABLE, AvailabilityType.RENT))
+                .extracting(SpatialGrid.Hit::landId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    void boxSearchReturnsNewestFirst() {
+        assertThat(grid.withinBox(LATITUDE, LONGITUDE - 0.01, LATITUDE + 0.2, LONGITUDE + 0.01, null, null))
+                .containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void boxWiderThanTheWorldIsClampedAndScansOnlyPopulatedCells() {
+        assertThat(grid.withinBox(-1_000, -1_000, 1_000, 1_000, null, null))
+                .containsExactly(3L, 2L, 1L);
+        assertThat(grid.withinRadius(89.9, LONGITUDE, 20_000, null, null))
+                .isEmpty();
+    }
+
+    @Test
+    void movedAndRemovedLandsAreReindexed() {
+        grid.put(3, LATITUDE - 0.01, LONGITUDE, LandStatus.AVAILABLE, AvailabilityType.RENT);
+        grid.remove(2);
+
+        assertThat(grid.size()).isEqualTo(2);
+        assertThat(grid.withinRadius(LATITUDE, LONGITUDE, 5_000, null, null))
+                .extracting(SpatialGrid.Hit::landId)
+                .containsExactlyInAnyOrder(1L, 3L);
+        assertThat(grid.withinBox(LATITUDE + 0.05, LONGITUDE - 0.01, LATITUDE + 0.2, LONGITUDE + 0.01, null, null))
+                .isEmpty();
+    }
+}
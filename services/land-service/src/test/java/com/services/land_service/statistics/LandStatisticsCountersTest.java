@@ -0,0 +1,61 @@
+package com.services.land_service.statistics;
+
+import com.services.land_service.dto.LandStatisticsResponse;
+import com.services.land_service.entity.Land.AvailabilityType;
+import com.services.land_service.entity.Land.LandStatus;
+import com.services.land_service.event.LandChangedEvent;
+import com.services.land_service.event.LandSnapshot;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LandStatisticsCountersTest {
+
+    @Test
+    void changesMoveLandsBetweenBuckets() {
+        LandStatisticsCounters counters = new LandStatisticsCounters();
+        LandSnapshot huye = land(1L, "Southern", " Huye", 1000.0, LandStatus.AVAILABLE, AvailabilityType.SALE);
+        LandSnapshot gasabo = land(2L, "Kigali", "Gasabo", 500.0, LandStatus.AVAILABLE, AvailabilityType.RENT);
+        counters.apply(LandChangedEvent.created(huye));
+        counters.apply(LandChangedEvent.created(gasabo));
+        counters.apply(LandChangedEvent.changed(huye, huye.withStatus(LandStatus.SOLD)));
+
+        LandStatisticsResponse all = counters.summarize(null, null);
+        assertThat(all.getLandCount()).isEqualTo(2);
+        assertThat(all.getTotalAreaSqMeters()).isEqualTo(1500.0);
+        assertThat(all.getByStatus().get(LandStatus.SOLD).getLandCount()).isEqualTo(1);
+        assertThat(all.getByStatus().get(LandStatus.AVAILABLE).getTotalAreaSqMeters()).isEqualTo(500.0);
+        assertThat(all.getByProvince()).extracting(LandStatisticsResponse.LocationTotals::getProvince)
+                .containsExactly("kigali", "southern");
+        assertThat(all.getByDistrict()).extracting(LandStatisticsResponse.LocationTotals::getDistrict)
+                .containsExactly("gasabo", "huye");
+
+        LandStatisticsResponse available = counters.summarize(LandStatus.AVAILABLE, null);
+        assertThat(available.getLandCount()).isEqualTo(1);
+        assertThat(available.getByAvailabilityType()).containsOnlyKeys(AvailabilityType.RENT);
+
+        counters.apply(LandChangedEvent.deleted(gasabo));
+        assertThat(counters.size()).isEqualTo(1);
+        assertThat(counters.summarize(LandStatus.AVAILABLE, null).getLandCount()).isZero();
+    }
+
+    @Test
+    void restoredCountersMatchTheSavedEntries() {
+        LandStatisticsCounters counters = new LandStatisticsCounters();
+        counters.apply(LandChangedEvent.created(land(1L, "Southern", "Huye", 1000.0, LandStatus.AVAILABLE, AvailabilityType.SALE)));
+        counters.apply(LandChangedEvent.created(land(2L, "Southern", "Huye", 250.0, LandStatus.AVAILABLE, AvailabilityType.SALE)));
+        counters.apply(LandChangedEvent.created(land(3L, null, null, 300.0, LandStatus.PENDING, AvailabilityType.RENT)));
+
+        LandStatisticsCounters restored = LandStatisticsCounters.of(counters.entries());
+        assertThat(restored.countDifferences(counters)).isZero();
+        assertThat(restored.summarize(null, null)).isEqualTo(counters.summarize(null, null));
+
+        restored.apply(LandChangedEvent.created(land(4L, "Kigali", "Gasabo", 400.0, LandStatus.AVAILABLE, AvailabilityType.SALE)));
+        assertThat(restored.countDifferences(counters)).isEqualTo(1);
+    }
+
+    private static LandSnapshot land(Long id, String province, String district, Double area,
+                                     LandStatus status, AvailabilityType availabilityType) {
+        return new LandSnapshot(id, province, district, "Sector", area, null, null, availabilityType, status, null);
+    }
+}
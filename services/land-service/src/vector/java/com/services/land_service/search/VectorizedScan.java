@@ -0,0 +1,64 @@
+package com.services.land_service.search;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD versions of the {@link AvailableLandTable} chunk predicates, on the incubating Vector API.
+ *
+ * <p>Only compiled by the {@code vector} Maven profile, and only loaded when the JVM runs with
+ * {@code --add-modules jdk.incubator.vector}; otherwise AvailableLandTable uses its scalar loops.
+ */
+final class VectorizedScan implements ChunkScan {
+
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_64;
+    // As wide as the hardware allows (8 lanes on AVX-512, 4 on AVX2), but no wider than a chunk
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED.length() <= AvailableLandTable.CHUNK
+            ? DoubleVector.SPECIES_PREFERRED
+            : DoubleVector.SPECIES_512;
+    private static final VectorSpecies<Long> LONGS = DOUBLES.withLanes(long.class);
+
+    VectorizedScan() {
+    }
+
+    @Override
+    public long matches(byte[] types, double[] areas, int from,
+                        byte type, boolean anyType, byte dead, double minArea, double maxArea) {
+        ByteVector typeLanes = ByteVector.fromArray(BYTES, types, from);
+        long bits = (anyType
+                ? typeLanes.compare(VectorOperators.NE, dead)
+                : typeLanes.compare(VectorOperators.EQ, type)).toLong();
+
+        long inRange = 0;
+        for (int lane = 0; lane < AvailableLandTable.CHUNK; lane += DOUBLES.length()) {
+            DoubleVector area = DoubleVector.fromArray(DOUBLES, areas, from + lane);
+            inRange |= area.compare(VectorOperators.GE, minArea)
+                    .and(area.compare(VectorOperators.LE, maxArea))
+                    .toLong() << lane;
+        }
+        return bits & inRange;
+    }
+
+    @Override
+    public long within(long[] values, int from, long bound, boolean descending) {
+        VectorOperators.Comparison comparison = descending ? VectorOperators.GE : VectorOperators.LE;
+        long bits = 0;
+        for (int lane = 0; lane < AvailableLandTable.CHUNK; lane += LONGS.length()) {
+            bits |= LongVector.fromArray(LONGS, values, from + lane).compare(comparison, bound).toLong() << lane;
+        }
+        return bits;
+    }
+
+    @Override
+    public long within(double[] values, int from, double bound, boolean descending) {
+        VectorOperators.Comparison comparison = descending ? VectorOperators.GE : VectorOperators.LE;
+        long bits = 0;
+        for (int lane = 0; lane < AvailableLandTable.CHUNK; lane += DOUBLES.length()) {
+            bits |= DoubleVector.fromArray(DOUBLES, values, from + lane).compare(comparison, bound).toLong() << lane;
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,107 @@
+package com.services.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The HTTP calls behind each {@link Operation}. Every call is timed into its endpoint's stats,
+ * including failed ones; a call that gets no response is recorded with status 0.
+ */
+public final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final String userServiceUrl;
+    private final String landServiceUrl;
+    private final Map<Operation, EndpointStats> stats;
+
+    public ApiClient(HttpClient http, ObjectMapper objectMapper, String userServiceUrl, String landServiceUrl,
+                     Map<Operation, EndpointStats> stats) {
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.userServiceUrl = userServiceUrl;
+        this.landServiceUrl = landServiceUrl;
+        this.stats = stats;
+    }
+
+    /**
+     * @return the bearer token, or null if the login failed
+     */
+    public String login(String email, String password) throws InterruptedException {
+        String body = objectMapper.createObjectNode()
+                .put("email", email)
+                .put("password", password)
+                .toString();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(userServiceUrl + "/api/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        HttpResponse<String> response = send(Operation.LOGIN, request, HttpResponse.BodyHandlers.ofString());
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        try {
+            JsonNode json = objectMapper.readTree(response.body());
+            return json.path("token").asText(null);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public void browse(int page, int size) throws InterruptedException {
+        get(Operation.BROWSE, "/api/lands?page=" + page + "&size=" + size + "&sortBy=createdAt&sortDir=DESC");
+    }
+
+    public void search(String district, double minArea, int page) throws InterruptedException {
+        get(Operation.SEARCH, "/api/lands/search?district=" + district + "&status=AVAILABLE&minArea=" + minArea
+                + "&page=" + page + "&size=20");
+    }
+
+    public void detail(long landId) throws InterruptedException {
+        get(Operation.DETAIL, "/api/lands/" + landId);
+    }
+
+    public void updateStatus(String token, long landId, String status) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(landServiceUrl + "/api/lands/" + landId + "/status?status=" + status))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build();
+        send(Operation.OWNER_UPDATE, request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private void get(Operation operation, String path) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(landServiceUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        send(operation, request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private <T> HttpResponse<T> send(Operation operation, HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            // The body handler reads the whole response, so this times the full exchange
+            HttpResponse<T> response = http.send(request, handler);
+            stats.get(operation).record(System.nanoTime() - start, response.statusCode());
+            return response;
+        } catch (IOException e) {
+            stats.get(operation).record(System.nanoTime() - start, EndpointStats.NO_RESPONSE);
+            return null;
+        }
+    }
+}
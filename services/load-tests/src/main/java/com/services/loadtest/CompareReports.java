@@ -0,0 +1,84 @@
+package com.services.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints the per-endpoint change between two reports, and warns when their configs differ.
+ *
+ * <pre>mvn exec:java -Dexec.mainClass=com.services.loadtest.CompareReports -Dexec.args="baseline.json candidate.json"</pre>
+ */
+public final class CompareReports {
+
+    private static final String[] LATENCIES = {"p50", "p95", "p99", "p999"};
+
+    private CompareReports() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CompareReports <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+
+        JsonNode baseline = Report.OBJECT_MAPPER.readTree(new File(args[0]));
+        JsonNode candidate = Report.OBJECT_MAPPER.readTree(new File(args[1]));
+
+        for (String difference : configDifferences(baseline.path("config"), candidate.path("config"))) {
+            System.out.println("WARNING: config differs: " + difference);
+        }
+        if (!baseline.path("environment").equals(candidate.path("environment"))) {
+            System.out.println("WARNING: environment differs: " + baseline.path("environment") + " vs " + candidate.path("environment"));
+        }
+
+        System.out.printf("%n%-14s %18s %18s %18s %18s %18s %10s%n",
+                "endpoint", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "errors");
+
+        Iterator<Map.Entry<String, JsonNode>> endpoints = baseline.path("endpoints").fields();
+        while (endpoints.hasNext()) {
+            Map.Entry<String, JsonNode> endpoint = endpoints.next();
+            printRow(endpoint.getKey(), endpoint.getValue(), candidate.path("endpoints").path(endpoint.getKey()));
+        }
+        printRow("total", baseline.path("total"), candidate.path("total"));
+    }
+
+    private static void printRow(String name, JsonNode before, JsonNode after) {
+        if (after.isMissingNode()) {
+            System.out.printf("%-14s not in candidate%n", name);
+            return;
+        }
+
+        StringBuilder row = new StringBuilder(String.format("%-14s %18s", name,
+                change(before.path("throughputPerSecond").asDouble(), after.path("throughputPerSecond").asDouble())));
+        for (String percentile : LATENCIES) {
+            row.append(String.format(" %18s", change(
+                    before.path("latencyMillis").path(percentile).asDouble(),
+                    after.path("latencyMillis").path(percentile).asDouble())));
+        }
+        row.append(String.format(" %4d -> %-4d", before.path("errors").asLong(), after.path("errors").asLong()));
+        System.out.println(row);
+    }
+
+    private static String change(double before, double after) {
+        String percent = before == 0 ? "n/a" : String.format("%+.1f%%", (after - before) / before * 100);
+        return String.format("%.1f->%.1f (%s)", before, after, percent);
+    }
+
+    private static List<String> configDifferences(JsonNode before, JsonNode after) {
+        List<String> differences = new ArrayList<>();
+        Iterator<String> fields = before.fieldNames();
+        while (fields.hasNext()) {
+            String field = fields.next();
+            if (!field.equals("label") && !field.equals("outputDir") && !before.path(field).equals(after.path(field))) {
+                differences.add(field + " " + before.path(field) + " vs " + after.path(field));
+            }
+        }
+        return differences;
+    }
+}
@@ -0,0 +1,56 @@
+package com.services.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency (microseconds) and response codes of one operation.
+ * Recording is lock-free; {@link #reset()} drops everything recorded so far, e.g. at the end of warmup.
+ */
+public final class EndpointStats {
+
+    /** Status code recorded when no response arrived (connect error, timeout). */
+    public static final int NO_RESPONSE = 0;
+
+    private static final long MAX_LATENCY_MICROS = 60_000_000L;
+
+    private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long latencyNanos, int statusCode) {
+        recorder.recordValue(Math.min(Math.max(latencyNanos / 1_000, 1), MAX_LATENCY_MICROS));
+        statusCodes.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+        if (statusCode < 200 || statusCode >= 400) {
+            errors.increment();
+        }
+    }
+
+    public void reset() {
+        recorder.reset();
+        statusCodes.clear();
+        errors.reset();
+    }
+
+    /**
+     * Everything recorded since the last reset. Call once, after the workers have stopped.
+     */
+    public Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public Map<Integer, Long> statusCodes() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCodes.forEach((code, count) -> counts.put(code, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,83 @@
+package com.services.loadtest;
+
+import com.services.loadtest.Seeder.SeedData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Boots the stack locally and runs one load test against it:
+ * Postgres stand-in, user-service and land-service (config server and Eureka disabled),
+ * seeded data, warmup, measurement, report.
+ *
+ * <pre>mvn compile exec:java -Dusers=1000 -Dlands=100000 -Dconcurrency=50 -Dduration=PT2M</pre>
+ *
+ * See {@link LoadTestConfig} for every property.
+ */
+public final class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Instant startedAt = Instant.now();
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        log.info("Starting Postgres ({})", config.database());
+        try (PostgresStandIn postgres = PostgresStandIn.start(config.database())) {
+            log.info("Using {}", postgres.description());
+
+            try (ServiceProcess userService = ServiceProcess.start("user-service", config.userServiceJar(),
+                    postgres, PostgresStandIn.USER_DB, config, Map.of(
+                            "application.password.bcrypt.strength", String.valueOf(config.bcryptStrength())))) {
+
+                // The first land-service start only creates the schema: its in-memory read models
+                // (available-lands snapshot, spatial index, statistics) load once, when it becomes ready,
+                // so it is restarted on the seeded data
+                try (ServiceProcess schema = ServiceProcess.start("land-service", config.landServiceJar(),
+                        postgres, PostgresStandIn.LAND_DB, config, Map.of())) {
+                    userService.awaitHealthy(http);
+                    schema.awaitHealthy(http);
+                }
+                postgres.runScripts(PostgresStandIn.LAND_DB, config.landServiceDbScripts());
+
+                log.info("Seeding {} users ({} land owners) and {} lands", config.users(), config.ownerCount(), config.lands());
+                SeedData data = Seeder.seed(postgres, config);
+
+                try (ServiceProcess landService = ServiceProcess.start("land-service", config.landServiceJar(),
+                        postgres, PostgresStandIn.LAND_DB, config, Map.of())) {
+                    landService.awaitHealthy(http);
+                    log.info("Services up: user-service {}, land-service {}", userService.baseUrl(), landService.baseUrl());
+
+                    Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+                    for (Operation operation : Operation.values()) {
+                        stats.put(operation, new EndpointStats());
+                    }
+                    ApiClient client = new ApiClient(http, Report.OBJECT_MAPPER,
+                            userService.baseUrl(), landService.baseUrl(), stats);
+
+                    log.info("Running {} virtual users: {} warmup, {} measured", config.concurrency(), config.warmup(), config.duration());
+                    long measuredNanos = new Workload(config, data, client, stats).run();
+
+                    Report report = Report.of(startedAt, config, postgres.description(), measuredNanos, stats);
+                    Path json = report.write(config.outputDir());
+                    report.printSummary(System.out);
+                    log.info("Report written to {}", json.toAbsolutePath());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.services.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Run parameters, read from system properties (-Dusers=5000 -Dduration=PT5M ...).
+ * Everything that shapes the data or the request sequence is part of the report,
+ * so two runs are only compared when their configs match.
+ */
+public record LoadTestConfig(
+        int users,
+        double ownerShare,
+        int lands,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        Map<Operation, Integer> mix,
+        double hotLandShare,
+        long seed,
+        DatabaseMode database,
+        int bcryptStrength,
+        boolean virtualThreads,
+        String serviceJvmArgs,
+        Path landServiceJar,
+        Path userServiceJar,
+        Path landServiceDbScripts,
+        Path outputDir,
+        String label
+) {
+
+    public enum DatabaseMode {
+        /** Testcontainers when Docker is available, embedded Postgres otherwise. */
+        AUTO,
+        TESTCONTAINERS,
+        EMBEDDED
+    }
+
+    static final String PASSWORD = "LoadTest-Password-1";
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("users", 1000),
+                Double.parseDouble(System.getProperty("ownerShare", "0.2")),
+                Integer.getInteger("lands", 100_000),
+                Integer.getInteger("concurrency", 50),
+                Duration.parse(System.getProperty("warmup", "PT30S")),
+                Duration.parse(System.getProperty("duration", "PT2M")),
+                Duration.parse(System.getProperty("thinkTime", "PT0S")),
+                parseMix(System.getProperty("mix", "login:5,browse:30,search:25,detail:35,owner-update:5")),
+                Double.parseDouble(System.getProperty("hotLandShare", "0.2")),
+                Long.getLong("seed", 42L),
+                DatabaseMode.valueOf(System.getProperty("database", "auto").toUpperCase()),
+                Integer.getInteger("bcryptStrength", 10),
+                Boolean.parseBoolean(System.getProperty("virtualThreads", "false")),
+                System.getProperty("serviceJvmArgs", "-Xms512m -Xmx512m"),
+                Path.of(System.getProperty("landServiceJar", "../land-service/target/land-service-0.0.1-SNAPSHOT-exec.jar")),
+                Path.of(System.getProperty("userServiceJar", "../user-service/target/user-service-1.0-SNAPSHOT-exec.jar")),
+                Path.of(System.getProperty("landServiceDbScripts", "../land-service/db")),
+                Path.of(System.getProperty("outputDir", "target/load-test")),
+                System.getProperty("label", "")
+        );
+    }
+
+    public int ownerCount() {
+        return Math.max(1, (int) Math.round(users * ownerShare));
+    }
+
+    /**
+     * Parses "browse:30,detail:50,..." into per-operation weights; missing operations get weight 0.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, 0);
+        }
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected <operation>:<weight>");
+            }
+            weights.put(Operation.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
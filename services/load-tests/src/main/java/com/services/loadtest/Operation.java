@@ -0,0 +1,42 @@
+package com.services.loadtest;
+
+/**
+ * The scripted user actions. Each one is reported as its own endpoint.
+ */
+public enum Operation {
+    /** POST /api/auth/login */
+    LOGIN("login", false),
+    /** GET /api/lands, newest first */
+    BROWSE("browse", false),
+    /** GET /api/lands/search by district, status and area */
+    SEARCH("search", false),
+    /** GET /api/lands/{id}, skewed towards a hot set of lands */
+    DETAIL("detail", false),
+    /** PATCH /api/lands/{id}/status on one of the caller's own lands */
+    OWNER_UPDATE("owner-update", true);
+
+    private final String reportName;
+    private final boolean ownersOnly;
+
+    Operation(String reportName, boolean ownersOnly) {
+        this.reportName = reportName;
+        this.ownersOnly = ownersOnly;
+    }
+
+    public String getReportName() {
+        return reportName;
+    }
+
+    public boolean isOwnersOnly() {
+        return ownersOnly;
+    }
+
+    public static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.reportName.equalsIgnoreCase(name) || operation.name().equalsIgnoreCase(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + name);
+    }
+}
@@ -0,0 +1,154 @@
+package com.services.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A throwaway Postgres server holding one database per service, in place of the
+ * docker-compose instance.
+ */
+public abstract class PostgresStandIn implements AutoCloseable {
+
+    public static final String USER_DB = "userdb";
+    public static final String LAND_DB = "landdb";
+
+    public static PostgresStandIn start(LoadTestConfig.DatabaseMode mode) throws IOException, SQLException {
+        PostgresStandIn postgres = switch (mode) {
+            case TESTCONTAINERS -> new Containerized();
+            case EMBEDDED -> new Embedded();
+            case AUTO -> DockerClientFactory.instance().isDockerAvailable() ? new Containerized() : new Embedded();
+        };
+
+        try (Connection connection = DriverManager.getConnection(postgres.jdbcUrl("postgres"), postgres.username(), postgres.password());
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + USER_DB);
+            statement.execute("CREATE DATABASE " + LAND_DB);
+        }
+        return postgres;
+    }
+
+    public abstract String description();
+
+    public abstract String jdbcUrl(String database);
+
+    public abstract String username();
+
+    public abstract String password();
+
+    public Connection connect(String database) throws SQLException {
+        return DriverManager.getConnection(jdbcUrl(database), username(), password());
+    }
+
+    /**
+     * Runs every *.sql file in the directory, in name order, the way an operator applies a service's
+     * one-time scripts: statement by statement in autocommit (comments are whole lines, no semicolons
+     * inside statements).
+     */
+    public void runScripts(String database, Path directory) throws IOException, SQLException {
+        List<Path> scripts;
+        try (Stream<Path> files = Files.list(directory)) {
+            scripts = files.filter(file -> file.toString().endsWith(".sql")).sorted().toList();
+        }
+        try (Connection connection = connect(database);
+             Statement statement = connection.createStatement()) {
+            for (Path script : scripts) {
+                String sql = Files.readAllLines(script).stream()
+                        .filter(line -> !line.strip().startsWith("--"))
+                        .reduce("", (all, line) -> all + line + "\n");
+                for (String command : sql.split(";")) {
+                    if (!command.isBlank()) {
+                        statement.execute(command);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public abstract void close() throws IOException;
+
+    private static final class Containerized extends PostgresStandIn {
+
+        private final PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:15-alpine")
+                // Same engine settings a small production instance would get, instead of the image defaults
+                .withCommand("postgres", "-c", "max_connections=200", "-c", "shared_buffers=256MB");
+
+        Containerized() {
+            container.start();
+        }
+
+        @Override
+        public String description() {
+            return "Testcontainers " + container.getDockerImageName();
+        }
+
+        @Override
+        public String jdbcUrl(String database) {
+            return "jdbc:postgresql://" + container.getHost() + ":" + container.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)
+                    + "/" + database;
+        }
+
+        @Override
+        public String username() {
+            return container.getUsername();
+        }
+
+        @Override
+        public String password() {
+            return container.getPassword();
+        }
+
+        @Override
+        public void close() {
+            container.stop();
+        }
+    }
+
+    private static final class Embedded extends PostgresStandIn {
+
+        private final EmbeddedPostgres postgres;
+
+        Embedded() throws IOException {
+            postgres = EmbeddedPostgres.builder()
+                    .setServerConfig("max_connections", "200")
+                    .setServerConfig("shared_buffers", "256MB")
+                    .start();
+        }
+
+        @Override
+        public String description() {
+            return "embedded Postgres on port " + postgres.getPort();
+        }
+
+        @Override
+        public String jdbcUrl(String database) {
+            return postgres.getJdbcUrl("postgres", database);
+        }
+
+        @Override
+        public String username() {
+            return "postgres";
+        }
+
+        @Override
+        public String password() {
+            return "postgres";
+        }
+
+        @Override
+        public void close() throws IOException {
+            postgres.close();
+        }
+    }
+}
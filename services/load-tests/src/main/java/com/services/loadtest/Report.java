@@ -0,0 +1,178 @@
+package com.services.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+/**
+ * Result of one run: throughput, latency percentiles and status codes per endpoint, plus the
+ * config and environment needed to tell whether two reports are comparable.
+ * Each endpoint also carries its full histogram (compressed, base64) so percentiles can be
+ * recomputed or histograms merged later.
+ */
+public record Report(
+        Instant startedAt,
+        String label,
+        LoadTestConfig config,
+        Environment environment,
+        double measuredSeconds,
+        Map<String, EndpointResult> endpoints,
+        EndpointResult total
+) {
+
+    public record Environment(int availableProcessors, String javaVersion, String os, String database) {
+
+        static Environment current(String database) {
+            return new Environment(
+                    Runtime.getRuntime().availableProcessors(),
+                    System.getProperty("java.version"),
+                    System.getProperty("os.name") + " " + System.getProperty("os.arch"),
+                    database
+            );
+        }
+    }
+
+    public record Latency(double min, double mean, double p50, double p90, double p95, double p99, double p999, double max) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(
+                    millis(histogram.getMinValue()),
+                    Math.round(histogram.getMean()) / 1000.0,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())
+            );
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    public record EndpointResult(long requests, long errors, double throughputPerSecond,
+                                 Latency latencyMillis, Map<Integer, Long> statusCodes, String histogram) {
+
+        static EndpointResult of(Histogram histogram, long errors, Map<Integer, Long> statusCodes, double seconds) {
+            long requests = histogram.getTotalCount();
+            return new EndpointResult(
+                    requests,
+                    errors,
+                    Math.round(requests / seconds * 10) / 10.0,
+                    Latency.of(histogram),
+                    statusCodes,
+                    encode(histogram)
+            );
+        }
+
+        private static String encode(Histogram histogram) {
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer, Deflater.BEST_COMPRESSION);
+            return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+        }
+    }
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static Report of(Instant startedAt, LoadTestConfig config, String database, long measuredNanos,
+                            Map<Operation, EndpointStats> stats) {
+        double seconds = measuredNanos / 1e9;
+        Map<String, EndpointResult> endpoints = new LinkedHashMap<>();
+        Histogram all = new Histogram(3);
+        long allErrors = 0;
+        Map<Integer, Long> allStatusCodes = new TreeMap<>();
+
+        for (Operation operation : Operation.values()) {
+            EndpointStats endpoint = stats.get(operation);
+            Histogram histogram = endpoint.histogram();
+            if (histogram.getTotalCount() == 0 && config.mix().get(operation) == 0) {
+                continue;
+            }
+            endpoints.put(operation.getReportName(),
+                    EndpointResult.of(histogram, endpoint.errors(), endpoint.statusCodes(), seconds));
+            all.add(histogram);
+            allErrors += endpoint.errors();
+            endpoint.statusCodes().forEach((code, count) -> allStatusCodes.merge(code, count, Long::sum));
+        }
+
+        return new Report(startedAt, config.label(), config, Environment.current(database), seconds, endpoints,
+                EndpointResult.of(all, allErrors, allStatusCodes, seconds));
+    }
+
+    /**
+     * Writes report-&lt;timestamp&gt;.json, an HdrHistogram log (.hlog) tagged by endpoint and one
+     * .hgrm percentile distribution per endpoint (plottable with HdrHistogram's plotFiles.html).
+     * Returns the JSON path.
+     */
+    public Path write(Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        String stamp = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC).format(startedAt);
+
+        Path json = outputDir.resolve("report-" + stamp + ".json");
+        OBJECT_MAPPER.writeValue(json.toFile(), this);
+
+        Path histogramLog = outputDir.resolve("report-" + stamp + ".hlog");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(histogramLog))) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            for (Map.Entry<String, EndpointResult> endpoint : endpoints.entrySet()) {
+                Histogram histogram = decode(endpoint.getValue().histogram());
+                histogram.setTag(endpoint.getKey());
+                writer.outputIntervalHistogram(histogram);
+
+                try (PrintStream hgrm = new PrintStream(Files.newOutputStream(
+                        outputDir.resolve("report-" + stamp + "-" + endpoint.getKey() + ".hgrm")))) {
+                    // Recorded in microseconds, printed in milliseconds
+                    histogram.outputPercentileDistribution(hgrm, 1000.0);
+                }
+            }
+        }
+        return json;
+    }
+
+    public void printSummary(PrintStream out) {
+        out.printf("%n%-14s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.forEach((name, result) -> printRow(out, name, result));
+        printRow(out, "total", total);
+    }
+
+    static Histogram decode(String encoded) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), 0);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt histogram in report", e);
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, EndpointResult result) {
+        Latency latency = result.latencyMillis();
+        out.printf("%-14s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, result.requests(), result.errors(), result.throughputPerSecond(),
+                latency.p50(), latency.p95(), latency.p99(), latency.p999(), latency.max());
+    }
+}
@@ -0,0 +1,197 @@
+package com.services.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk-loads the synthetic dataset straight into the services' databases once Hibernate has
+ * created the schema. The same config always yields the same rows (setseed), so runs are comparable.
+ */
+public final class Seeder {
+
+    /** Users are loadtest-1@example.com .. loadtest-N@example.com; the first ownerCount are land owners. */
+    public record SeededUser(long id, String email, boolean owner) {
+    }
+
+    public record SeedData(List<SeededUser> users, long[] landIds, Map<Long, long[]> landIdsByOwner,
+                           List<String> districts) {
+    }
+
+    static final List<String[]> LOCATIONS = List.of(
+            new String[]{"Kigali", "Gasabo"}, new String[]{"Kigali", "Kicukiro"}, new String[]{"Kigali", "Nyarugenge"},
+            new String[]{"Northern", "Musanze"}, new String[]{"Northern", "Burera"}, new String[]{"Northern", "Gicumbi"},
+            new String[]{"Southern", "Huye"}, new String[]{"Southern", "Nyanza"}, new String[]{"Southern", "Muhanga"},
+            new String[]{"Eastern", "Rwamagana"}, new String[]{"Eastern", "Kayonza"}, new String[]{"Eastern", "Bugesera"},
+            new String[]{"Western", "Rubavu"}, new String[]{"Western", "Rusizi"}, new String[]{"Western", "Karongi"}
+    );
+
+    private static final int SECTORS_PER_DISTRICT = 15;
+
+    private Seeder() {
+    }
+
+    public static SeedData seed(PostgresStandIn postgres, LoadTestConfig config) throws SQLException {
+        List<SeededUser> users = seedUsers(postgres, config);
+
+        long[] ownerIds = users.stream()
+                .filter(SeededUser::owner)
+                .mapToLong(SeededUser::id)
+                .toArray();
+
+        try (Connection connection = postgres.connect(PostgresStandIn.LAND_DB)) {
+            seedLands(connection, config, ownerIds);
+            return loadLands(connection, users);
+        }
+    }
+
+    private static List<SeededUser> seedUsers(PostgresStandIn postgres, LoadTestConfig config) throws SQLException {
+        // One hash for everyone, at the strength user-service is started with, so logins never re-hash
+        String passwordHash = new BCryptPasswordEncoder(config.bcryptStrength()).encode(LoadTestConfig.PASSWORD);
+
+        try (Connection connection = postgres.connect(PostgresStandIn.USER_DB)) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement insertUsers = connection.prepareStatement("""
+                    INSERT INTO users (id, email, password, full_name, is_verified, is_active, created_at, updated_at)
+                    SELECT nextval('users_seq'), 'loadtest-' || g || '@example.com', ?, 'Load Test User ' || g,
+                           true, true, now(), now()
+                    FROM generate_series(1, ?) AS g
+                    """)) {
+                insertUsers.setString(1, passwordHash);
+                insertUsers.setInt(2, config.users());
+                insertUsers.executeUpdate();
+            }
+
+            try (PreparedStatement insertRoles = connection.prepareStatement("""
+                    INSERT INTO user_roles (user_id, role, created_at)
+                    SELECT id, CASE WHEN n <= ? THEN 'LAND_OWNER' ELSE 'INVESTOR' END, now()
+                    FROM (SELECT id, substring(email FROM 'loadtest-([0-9]+)@')::int AS n
+                          FROM users WHERE email LIKE 'loadtest-%') u
+                    """)) {
+                insertRoles.setInt(1, config.ownerCount());
+                insertRoles.executeUpdate();
+            }
+
+            connection.commit();
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE users");
+                statement.execute("ANALYZE user_roles");
+            }
+
+            List<SeededUser> users = new ArrayList<>(config.users());
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery("""
+                         SELECT u.id, u.email, r.role = 'LAND_OWNER' AS owner
+                         FROM users u JOIN user_roles r ON r.user_id = u.id
+                         WHERE u.email LIKE 'loadtest-%'
+                         ORDER BY substring(u.email FROM 'loadtest-([0-9]+)@')::int
+                         """)) {
+                while (rows.next()) {
+                    users.add(new SeededUser(rows.getLong(1), rows.getString(2), rows.getBoolean(3)));
+                }
+            }
+            return users;
+        }
+    }
+
+    private static void seedLands(Connection connection, LoadTestConfig config, long[] ownerIds) throws SQLException {
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE seed_locations (n int, province text, district text) ON COMMIT DROP");
+        }
+        try (PreparedStatement insertLocation = connection.prepareStatement(
+                "INSERT INTO seed_locations (n, province, district) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < LOCATIONS.size(); i++) {
+                insertLocation.setInt(1, i);
+                insertLocation.setString(2, LOCATIONS.get(i)[0]);
+                insertLocation.setString(3, LOCATIONS.get(i)[1]);
+                insertLocation.addBatch();
+            }
+            insertLocation.executeBatch();
+        }
+
+        try (PreparedStatement setSeed = connection.prepareStatement("SELECT setseed(?)")) {
+            // setseed takes [-1, 1]
+            setSeed.setDouble(1, (config.seed() % 1000) / 1000.0);
+            setSeed.execute();
+        }
+
+        Array owners = connection.createArrayOf("bigint", box(ownerIds));
+        try (PreparedStatement insertLands = connection.prepareStatement("""
+                INSERT INTO lands (id, owner_id, province, district, sector,
+                                   province_normalized, district_normalized, sector_normalized,
+                                   area_sq_meters, availability_type, status, created_at, updated_at)
+                SELECT nextval('lands_seq'),
+                       (?::bigint[])[1 + g % ?],
+                       l.province, l.district, l.district || ' Sector ' || r.sector,
+                       lower(l.province), lower(l.district), lower(l.district || ' Sector ' || r.sector),
+                       round((100 + random() ^ 3 * 999900)::numeric, 2),
+                       (ARRAY['SALE', 'RENT', 'HARVEST_SHARE', 'SALE_OR_RENT', 'ALL'])[1 + floor(random() * 5)::int],
+                       (ARRAY['AVAILABLE', 'AVAILABLE', 'AVAILABLE', 'AVAILABLE', 'PENDING',
+                              'SOLD', 'RENTED', 'UNDER_CONTRACT', 'WITHDRAWN'])[1 + floor(random() * 9)::int],
+                       r.ts, r.ts
+                FROM (SELECT g,
+                             floor(random() * ?)::int AS loc,
+                             1 + floor(random() * ?)::int AS sector,
+                             now() - (random() * interval '730 days') AS ts
+                      FROM generate_series(1, ?) AS g) r
+                JOIN seed_locations l ON l.n = r.loc
+                """)) {
+            insertLands.setArray(1, owners);
+            insertLands.setInt(2, ownerIds.length);
+            insertLands.setInt(3, LOCATIONS.size());
+            insertLands.setInt(4, SECTORS_PER_DISTRICT);
+            insertLands.setInt(5, config.lands());
+            insertLands.executeUpdate();
+        }
+
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE lands");
+        }
+    }
+
+    private static SeedData loadLands(Connection connection, List<SeededUser> users) throws SQLException {
+        long[] landIds;
+        Map<Long, List<Long>> byOwner = new HashMap<>();
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id, owner_id FROM lands ORDER BY id")) {
+            List<Long> ids = new ArrayList<>();
+            while (rows.next()) {
+                long id = rows.getLong(1);
+                ids.add(id);
+                byOwner.computeIfAbsent(rows.getLong(2), owner -> new ArrayList<>()).add(id);
+            }
+            landIds = ids.stream().mapToLong(Long::longValue).toArray();
+        }
+
+        Map<Long, long[]> landIdsByOwner = new HashMap<>();
+        byOwner.forEach((owner, ids) -> landIdsByOwner.put(owner, ids.stream().mapToLong(Long::longValue).toArray()));
+
+        List<String> districts = LOCATIONS.stream().map(location -> location[1]).toList();
+        return new SeedData(users, landIds, landIdsByOwner, districts);
+    }
+
+    private static Long[] box(long[] values) {
+        Long[] boxed = new Long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+}
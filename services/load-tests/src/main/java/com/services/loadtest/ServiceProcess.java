@@ -0,0 +1,127 @@
+package com.services.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One service started from its runnable jar in a child JVM, standalone: no config server,
+ * no Eureka registration, its own port and the stand-in database.
+ */
+public final class ServiceProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final String name;
+    private final int port;
+    private final int managementPort;
+    private final Process process;
+    private final Path log;
+
+    private ServiceProcess(String name, int port, int managementPort, Process process, Path log) {
+        this.name = name;
+        this.port = port;
+        this.managementPort = managementPort;
+        this.process = process;
+        this.log = log;
+    }
+
+    public static ServiceProcess start(String name, Path jar, PostgresStandIn postgres, String database,
+                                       LoadTestConfig config, Map<String, String> extraProperties) throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Missing " + jar.toAbsolutePath() + ", build " + name + " first (mvn -DskipTests package)");
+        }
+
+        int port = freePort();
+        int managementPort = freePort();
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(config.serviceJvmArgs().trim().split("\\s+")));
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        command.add("--management.server.port=" + managementPort);
+        command.add("--spring.datasource.url=" + postgres.jdbcUrl(database));
+        command.add("--spring.datasource.username=" + postgres.username());
+        command.add("--spring.datasource.password=" + postgres.password());
+        command.add("--spring.cloud.config.enabled=false");
+        command.add("--spring.cloud.config.import-check.enabled=false");
+        command.add("--eureka.client.enabled=false");
+        command.add("--spring.jpa.show-sql=false");
+        // Health stays OUT_OF_SERVICE until the ApplicationReadyEvent listeners (read model loads) have run
+        command.add("--management.endpoint.health.probes.enabled=true");
+        extraProperties.forEach((key, value) -> command.add("--" + key + "=" + value));
+
+        Files.createDirectories(config.outputDir());
+        Path log = config.outputDir().resolve(name + ".log");
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        builder.environment().put("VIRTUAL_THREADS_ENABLED", String.valueOf(config.virtualThreads()));
+
+        return new ServiceProcess(name, port, managementPort, builder.start(), log);
+    }
+
+    /**
+     * Blocks until /actuator/health on the management port reports UP, i.e. the service is ready to take traffic.
+     */
+    public void awaitHealthy(HttpClient client) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + managementPort + "/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+
+        while (Instant.now().isBefore(deadline)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see " + log);
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " did not become healthy within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.services.loadtest;
+
+import com.services.loadtest.Seeder.SeedData;
+import com.services.loadtest.Seeder.SeededUser;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop mixed workload: {@code concurrency} virtual users, each logged in as one seeded user,
+ * repeatedly pick an operation by weight and wait for it to finish (plus optional think time).
+ * Each virtual user has its own seeded random stream, so the request sequence is repeatable.
+ *
+ * <p>Being closed-loop, a slow response delays the next request of that user instead of queueing
+ * behind it, so tail latencies are lower than an open-loop (fixed arrival rate) test would show.
+ */
+public final class Workload {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BROWSE_PAGES = 50;
+    private static final String[] UPDATE_STATUSES = {"AVAILABLE", "PENDING"};
+
+    private final LoadTestConfig config;
+    private final SeedData data;
+    private final ApiClient client;
+    private final Map<Operation, EndpointStats> stats;
+
+    private volatile boolean running = true;
+
+    public Workload(LoadTestConfig config, SeedData data, ApiClient client, Map<Operation, EndpointStats> stats) {
+        this.config = config;
+        this.data = data;
+        this.client = client;
+        this.stats = stats;
+    }
+
+    /**
+     * Runs warmup then measurement, and returns the measured wall-clock time in nanoseconds.
+     */
+    public long run() throws InterruptedException {
+        CountDownLatch loggedIn = new CountDownLatch(config.concurrency());
+        List<VirtualUser> users = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            users.add(new VirtualUser(i, data.users().get(i % data.users().size()), loggedIn));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            users.forEach(executor::submit);
+
+            loggedIn.await();
+            Thread.sleep(config.warmup().toMillis());
+
+            stats.values().forEach(EndpointStats::reset);
+            long start = System.nanoTime();
+            Thread.sleep(config.duration().toMillis());
+            long elapsed = System.nanoTime() - start;
+
+            running = false;
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            return elapsed;
+        }
+    }
+
+    private final class VirtualUser implements Runnable {
+
+        private final SeededUser user;
+        private final SplittableRandom random;
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+        private final CountDownLatch loggedIn;
+        private final long[] ownLands;
+
+        VirtualUser(int index, SeededUser user, CountDownLatch loggedIn) {
+            this.user = user;
+            this.random = new SplittableRandom(config.seed() * 31 + index);
+            this.loggedIn = loggedIn;
+            this.ownLands = data.landIdsByOwner().getOrDefault(user.id(), new long[0]);
+
+            Map<Operation, Integer> weights = new EnumMap<>(config.mix());
+            if (!user.owner() || ownLands.length == 0) {
+                weights.put(Operation.OWNER_UPDATE, 0);
+            }
+            this.operations = weights.keySet().toArray(Operation[]::new);
+            this.cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += weights.get(operations[i]);
+                cumulativeWeights[i] = total;
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("The operation mix has no weight for " + (user.owner() ? "owners" : "non-owners"));
+            }
+        }
+
+        @Override
+        public void run() {
+            boolean counted = false;
+            try {
+                String token = client.login(user.email(), LoadTestConfig.PASSWORD);
+                loggedIn.countDown();
+                counted = true;
+                if (token == null) {
+                    // Shows up as a login error in the report
+                    return;
+                }
+
+                while (running) {
+                    switch (nextOperation()) {
+                        case LOGIN -> {
+                            String refreshed = client.login(user.email(), LoadTestConfig.PASSWORD);
+                            token = refreshed != null ? refreshed : token;
+                        }
+                        case BROWSE -> client.browse(random.nextInt(BROWSE_PAGES), PAGE_SIZE);
+                        case SEARCH -> client.search(
+                                data.districts().get(random.nextInt(data.districts().size())),
+                                random.nextInt(10) * 1000.0,
+                                random.nextInt(5));
+                        case DETAIL -> client.detail(nextLandId());
+                        case OWNER_UPDATE -> client.updateStatus(token,
+                                ownLands[random.nextInt(ownLands.length)],
+                                UPDATE_STATUSES[random.nextInt(UPDATE_STATUSES.length)]);
+                    }
+
+                    if (!config.thinkTime().isZero()) {
+                        Thread.sleep(config.thinkTime().toMillis());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (!counted) {
+                    loggedIn.countDown();
+                }
+            }
+        }
+
+        private Operation nextOperation() {
+            int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        /**
+         * 80% of detail views go to a hot share of the lands (the highest ids),
+         * the rest are spread over the whole inventory.
+         */
+        private long nextLandId() {
+            long[] ids = data.landIds();
+            int hot = Math.max(1, (int) (ids.length * config.hotLandShare()));
+            return random.nextInt(100) < 80
+                    ? ids[ids.length - 1 - random.nextInt(hot)]
+                    : ids[random.nextInt(ids.length)];
+        }
+    }
+}
@@ -0,0 +1,24 @@
+-- One-time upgrade for databases created while users.id and verification_tokens.id were IDENTITY
+-- columns: moves the pooled sequences past the ids already handed out.
+--
+--   psql -d userdb -f db/pooled-id-sequences.sql
+--
+-- Run it once, before the first user-service instance that draws ids from these sequences starts.
+-- It must not run while such instances are up: one could call nextval between the read and the
+-- setval below, and the setval would then hand its id block out again. It only ever moves the
+-- sequences forward, so running it again on an upgraded database changes nothing.
+
+-- Same definitions Hibernate would create (increment = allocationSize)
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS verification_tokens_seq START WITH 1 INCREMENT BY 50;
+
+BEGIN;
+-- Instances of the previous version keep inserting through the IDENTITY defaults meanwhile
+LOCK TABLE users, verification_tokens IN SHARE ROW EXCLUSIVE MODE;
+SELECT setval('users_seq', max_id)
+FROM (SELECT MAX(id) AS max_id FROM users) existing
+WHERE max_id > (SELECT last_value FROM users_seq);
+SELECT setval('verification_tokens_seq', max_id)
+FROM (SELECT MAX(id) AS max_id FROM verification_tokens) existing
+WHERE max_id > (SELECT last_value FROM verification_tokens_seq);
+COMMIT;
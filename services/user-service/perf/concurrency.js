@@ -0,0 +1,87 @@
+// Login workload (BCrypt + JDBC) at 2k concurrent connections, to compare platform and virtual request threads.
+//
+//   VIRTUAL_THREADS_ENABLED=false java -jar target/user-service-*.jar   # then:
+//   k6 run -e RUN=platform -e EMAIL=... -e PASSWORD=... perf/concurrency.js
+//   VIRTUAL_THREADS_ENABLED=true  java -jar target/user-service-*.jar   # then:
+//   k6 run -e RUN=virtual  -e EMAIL=... -e PASSWORD=... perf/concurrency.js
+//
+// The account must exist and be verified. Each run writes concurrency-<RUN>.json
+// with p50/p95/p99 per endpoint; compare the p99 columns. 503s from the
+// concurrency limit are counted separately (rejected) rather than as failures.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const RUN = __ENV.RUN || 'run';
+const CONNECTIONS = parseInt(__ENV.CONNECTIONS || '2000', 10);
+const EMAIL = __ENV.EMAIL;
+const PASSWORD = __ENV.PASSWORD;
+
+const rejected = new Counter('rejected');
+
+export const options = {
+    scenarios: {
+        burst: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: CONNECTIONS },
+                { duration: '2m', target: CONNECTIONS },
+                { duration: '10s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{endpoint:login}': ['p(99)>=0'],
+        'http_req_duration{endpoint:me}': ['p(99)>=0'],
+    },
+};
+
+const json = { headers: { 'Content-Type': 'application/json' } };
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ email: EMAIL, password: PASSWORD }), json);
+    return { token: res.json('token') };
+}
+
+export default function (data) {
+    let res;
+
+    if (Math.random() < 0.2) {
+        res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ email: EMAIL, password: PASSWORD }),
+            Object.assign({ tags: { endpoint: 'login' } }, json));
+    } else {
+        res = http.get(`${BASE_URL}/api/users/me`, {
+            headers: { Authorization: `Bearer ${data.token}` },
+            tags: { endpoint: 'me' },
+        });
+    }
+
+    if (res.status === 503) {
+        rejected.add(1);
+        return;
+    }
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    const row = (name) => {
+        const values = data.metrics[`http_req_duration{endpoint:${name}}`].values;
+        return { p50: values['p(50)'], p95: values['p(95)'], p99: values['p(99)'] };
+    };
+    const result = {
+        run: RUN,
+        connections: CONNECTIONS,
+        requests: data.metrics.http_reqs.values.count,
+        rejected: data.metrics.rejected ? data.metrics.rejected.values.count : 0,
+        login: row('login'),
+        me: row('me'),
+    };
+    return {
+        [`concurrency-${RUN}.json`]: JSON.stringify(result, null, 2),
+        stdout: JSON.stringify(result, null, 2) + '\n',
+    };
+}
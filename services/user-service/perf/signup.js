@@ -0,0 +1,76 @@
+// Signup throughput and latency.
+//
+//   k6 run perf/signup.js
+//   k6 run -e RATE=500 -e DUPLICATES=0.05 perf/signup.js
+//
+// Drives RATE signups/sec for DURATION with unique emails; a DUPLICATES share of
+// requests reuses an email that was already registered and must get 409.
+// Writes signup-summary.json with achieved signups/sec and p50/p95/p99.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const RATE = parseInt(__ENV.RATE || '200', 10);
+const DURATION = __ENV.DURATION || '2m';
+const DUPLICATES = parseFloat(__ENV.DUPLICATES || '0.02');
+const RUN = __ENV.RUN || `${Date.now()}`;
+
+const created = new Counter('signups_created');
+const conflicts = new Counter('signups_conflict');
+
+export const options = {
+    scenarios: {
+        signup: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(50, RATE),
+            maxVUs: RATE * 4,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const json = { headers: { 'Content-Type': 'application/json' } };
+
+function email(vu, iteration) {
+    return `signup-${RUN}-${vu}-${iteration}@example.com`;
+}
+
+export default function () {
+    const duplicate = __ITER > 0 && Math.random() < DUPLICATES;
+    const body = JSON.stringify({
+        email: duplicate ? email(__VU, 0) : email(__VU, __ITER),
+        password: 'load-test-password',
+        fullName: `Load Test ${__VU}`,
+    });
+
+    const res = http.post(`${BASE_URL}/api/auth/signup`, body, json);
+
+    if (duplicate) {
+        if (check(res, { 'duplicate rejected with 409': (r) => r.status === 409 })) {
+            conflicts.add(1);
+        }
+    } else if (check(res, { 'created': (r) => r.status === 200 || r.status === 201 })) {
+        created.add(1);
+    }
+}
+
+export function handleSummary(data) {
+    const duration = data.metrics.http_req_duration.values;
+    const result = {
+        rate: RATE,
+        signupsPerSecond: data.metrics.signups_created ? data.metrics.signups_created.values.rate : 0,
+        conflicts: data.metrics.signups_conflict ? data.metrics.signups_conflict.values.count : 0,
+        p50: duration['p(50)'],
+        p95: duration['p(95)'],
+        p99: duration['p(99)'],
+    };
+    return {
+        'signup-summary.json': JSON.stringify(result, null, 2),
+        stdout: JSON.stringify(result, null, 2) + '\n',
+    };
+}
@@ -0,0 +1,30 @@
+package com.services.user_service.cache;
+
+import com.services.user_service.event.UserProfileChangedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Process-local channel, used in tests and single-instance setups: delivers every
+ * invalidation synchronously to the subscribers of this JVM.
+ */
+@Component
+@ConditionalOnProperty(name = "application.user.cache.invalidation.type", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryUserInvalidationChannel implements UserInvalidationChannel {
+
+    private final List<Consumer<UserProfileChangedEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(UserProfileChangedEvent event) {
+        listeners.forEach(listener -> listener.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<UserProfileChangedEvent> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,16 @@
+package com.services.user_service.cache;
+
+import com.services.user_service.event.UserProfileChangedEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts profile invalidations to every user-service replica, including this one
+ * (e.g. Redis pub/sub). Without a channel, only the local cache is invalidated.
+ */
+public interface UserInvalidationChannel {
+
+    void publish(UserProfileChangedEvent event);
+
+    void subscribe(Consumer<UserProfileChangedEvent> listener);
+}
@@ -0,0 +1,79 @@
+package com.services.user_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.services.user_service.dto.UserResponse;
+import com.services.user_service.event.UserProfileChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of user profile responses, bounded and TTL'd.
+ * Entries are evicted once a transaction that changed the user commits; with an
+ * {@link UserInvalidationChannel} the eviction is broadcast to every replica.
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    private final Cache<Long, UserResponse> cache;
+    private final UserInvalidationChannel channel;
+    private final Timer staleness;
+
+    public UserProfileCache(
+            ObjectProvider<UserInvalidationChannel> invalidationChannel,
+            MeterRegistry meterRegistry,
+            @Value("${application.user.cache.profile.max-size:10000}") long maxSize,
+            @Value("${application.user.cache.profile.ttl:10m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.channel = invalidationChannel.getIfAvailable();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.profile");
+
+        Gauge.builder("user.profile.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+        this.staleness = Timer.builder("user.profile.cache.staleness")
+                .description("Time from a profile change to its eviction from this replica's cache")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        if (channel != null) {
+            channel.subscribe(this::evict);
+        }
+    }
+
+    public UserResponse get(Long userId, Supplier<UserResponse> loader) {
+        return cache.get(userId, id -> loader.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        if (channel != null) {
+            channel.publish(event);
+        } else {
+            evict(event);
+        }
+    }
+
+    private void evict(UserProfileChangedEvent event) {
+        log.debug("Evicting user {} from profile cache", event.getUserId());
+        cache.invalidate(event.getUserId());
+        staleness.record(Duration.between(event.getChangedAt(), Instant.now()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.services.user_service.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how many JDBC statements each request ran and how long they took, per endpoint:
+ * http.server.requests.jdbc.statements and http.server.requests.jdbc.time{method, uri}.
+ * The statements are collected by {@link JdbcStatementListener}.
+ *
+ * <p>Only the request thread's statements are counted. A signup counts the insert of its
+ * verification email into the outbox, but not the updates {@code EmailOutboxDispatcher} makes when
+ * it sends the email; a login does not count its last-login update, which {@code LastLoginRecorder}
+ * writes later in a batch.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class JdbcRequestMetricsFilter extends OncePerRequestFilter {
+
+    private final Meter.MeterProvider<DistributionSummary> statements;
+    private final Meter.MeterProvider<Timer> time;
+
+    public JdbcRequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.statements = DistributionSummary.builder("http.server.requests.jdbc.statements")
+                .description("JDBC statements executed per request")
+                .baseUnit("statements")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .withRegistry(meterRegistry);
+        this.time = Timer.builder("http.server.requests.jdbc.time")
+                .description("Time spent executing JDBC statements per request")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        JdbcStatementListener.Totals totals = JdbcStatementListener.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            JdbcStatementListener.endRequest();
+
+            // Set once the request has been mapped; unmapped requests (404s) share one series
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            statements.withTags("method", request.getMethod(), "uri", uri).record(totals.statements);
+            time.withTags("method", request.getMethod(), "uri", uri).record(totals.nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
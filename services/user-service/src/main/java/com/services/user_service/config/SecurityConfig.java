@@ -1,9 +1,12 @@
 package com.services.user_service.config;
 
 //import com.example.TerraFund.security.JwtAuthenticationFilter;
+import com.services.user_service.security.BCryptWorkFactor;
 import com.services.user_service.security.JwtAuthenticationFilter;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -24,6 +27,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 
 
@@ -32,14 +36,29 @@ import java.util.Arrays;
 @EnableMethodSecurity
 @RequiredArgsConstructor
 @Getter
+@Slf4j
 public class SecurityConfig{
 
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthFilter;
 
+    // 0 = pick the strength that fits target-latency on this host
+    @Value("${application.password.bcrypt.strength:0}")
+    private int bcryptStrength;
+
+    @Value("${application.password.bcrypt.target-latency:250ms}")
+    private Duration bcryptTargetLatency;
+
+    @Value("${application.password.bcrypt.max-strength:12}")
+    private int bcryptMaxStrength;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = bcryptStrength > 0
+                ? bcryptStrength
+                : BCryptWorkFactor.calibrate(bcryptTargetLatency, bcryptMaxStrength);
+        log.info("Using BCrypt strength {}", strength);
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -75,8 +94,12 @@ public class SecurityConfig{
                 .sessionManagement(c -> c.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(c ->
-                        c.requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/actuator/**").permitAll()
+                        c.requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                                // Only served on the unpublished management port (management.server.port)
+                                .requestMatchers("/actuator/**").permitAll()
                                 .requestMatchers("/ws/**").permitAll()
+                                // Error dispatches must keep their status (e.g. 503 when password hashing sheds load)
+                                .requestMatchers("/error").permitAll()
                                 .anyRequest().authenticated()
                 )
                 .formLogin(AbstractHttpConfigurer::disable)
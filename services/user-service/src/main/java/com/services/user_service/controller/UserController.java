@@ -3,14 +3,11 @@ package com.services.user_service.controller;
 import com.services.user_service.dto.RoleSelectionRequest;
 import com.services.user_service.dto.UpdateUserRequest;
 import com.services.user_service.dto.UserResponse;
-import com.services.user_service.entity.User;
-import com.services.user_service.repository.UserRepository;
+import com.services.user_service.security.SecurityUtils;
 import com.services.user_service.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -22,7 +19,6 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
-    private final UserRepository userRepository;
 
     @PostMapping("/select-role")
     public ResponseEntity<Map<String, Object>> selectRole(@Valid @RequestBody RoleSelectionRequest request) {
@@ -56,17 +52,13 @@ public class UserController {
     }
 
     private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // Read from the verified token's userId claim, no database lookup
+        Long userId = SecurityUtils.getCurrentUserId();
 
-        if (authentication != null && authentication.isAuthenticated()) {
-            String email = authentication.getName();
-
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            return user.getId();
+        if (userId == null) {
+            throw new RuntimeException("User not authenticated");
         }
 
-        throw new RuntimeException("User not authenticated");
+        return userId;
     }
 }
\ No newline at end of file
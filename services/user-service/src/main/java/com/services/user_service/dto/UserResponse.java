@@ -23,4 +23,5 @@ public class UserResponse {
     private Set<Role> roles;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private LocalDateTime lastLoginAt;
 }
\ No newline at end of file
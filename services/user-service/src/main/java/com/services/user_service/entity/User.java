@@ -13,18 +13,25 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(exclude = "roles")
 public class User {
 
+    // Named so signup can tell a taken email from other constraint violations
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
+    // Pooled sequence instead of IDENTITY: the insert can wait for the flush and be batched with the token's
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -39,9 +46,6 @@ public class User {
     @Column(nullable = false)
     private Boolean isVerified = false;
 
-    @Column
-    private String jwt = null;
-
     @Column(nullable = false)
     private Boolean isActive = true;
 
@@ -55,6 +59,10 @@ public class User {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // Written only by LastLoginRecorder, so entity saves never overwrite it with a stale value
+    @Column(name = "last_login_at", insertable = false, updatable = false)
+    private LocalDateTime lastLoginAt;
+
     public void addRole(UserRole role) {
         roles.add(role);
         role.setUser(this);
@@ -9,24 +9,28 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "verification_tokens")
+@Table(name = "verification_tokens", indexes = {
+        // Serves the scheduled purge of expired tokens
+        @Index(name = "idx_verification_tokens_expiry_date", columnList = "expiry_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class VerificationToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "verification_tokens_seq")
+    @SequenceGenerator(name = "verification_tokens_seq", sequenceName = "verification_tokens_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
     private String token;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
-    @Column(nullable = false)
+    @Column(name = "expiry_date", nullable = false)
     private LocalDateTime expiryDate;
 
     @CreationTimestamp
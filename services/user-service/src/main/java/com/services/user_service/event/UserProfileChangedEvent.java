@@ -0,0 +1,21 @@
+package com.services.user_service.event;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Published whenever data shown in a user's profile changes.
+ * Listeners that keep derived state (the profile cache) react to it after commit.
+ */
+@Value
+public class UserProfileChangedEvent {
+
+    Long userId;
+
+    Instant changedAt;
+
+    public static UserProfileChangedEvent of(Long userId) {
+        return new UserProfileChangedEvent(userId, Instant.now());
+    }
+}
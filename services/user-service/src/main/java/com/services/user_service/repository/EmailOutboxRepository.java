@@ -0,0 +1,84 @@
+package com.services.user_service.repository;
+
+import com.services.user_service.entity.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Claims up to batchSize due emails by leasing them until leaseUntil, and returns them.
+     * SKIP LOCKED lets several dispatchers claim concurrently without waiting on or double-claiming rows.
+     */
+    @Query(value = """
+            UPDATE email_outbox SET locked_until = :leaseUntil
+            WHERE id IN (
+                SELECT id FROM email_outbox
+                WHERE status = 'PENDING'
+                  AND next_attempt_at <= :now
+                  AND (locked_until IS NULL OR locked_until < :now)
+                ORDER BY next_attempt_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """, nativeQuery = true)
+    List<EmailOutbox> claimBatch(LocalDateTime now, LocalDateTime leaseUntil, int batchSize);
+
+    /**
+     * Marks the email sent and drops its body (which may hold a verification link), only while
+     * the caller's lease is still the current one. Returns 0 when the lease lapsed and the row
+     * was claimed again (or already settled) by another dispatcher.
+     */
+    @Modifying
+    @Query("""
+        UPDATE EmailOutbox e
+        SET e.status = com.services.user_service.entity.EmailOutbox$Status.SENT,
+            e.sentAt = :sentAt, e.attempts = e.attempts + 1, e.lockedUntil = null, e.lastError = null,
+            e.body = ''
+        WHERE e.id = :id AND e.lockedUntil = :lockedUntil
+    """)
+    int markSent(Long id, LocalDateTime lockedUntil, LocalDateTime sentAt);
+
+    /**
+     * Records a failed attempt, fenced on the caller's lease like {@link #markSent}.
+     */
+    @Modifying
+    @Query("""
+        UPDATE EmailOutbox e
+        SET e.status = :status, e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt,
+            e.lockedUntil = null, e.lastError = :error
+        WHERE e.id = :id AND e.lockedUntil = :lockedUntil
+    """)
+    int markFailed(Long id, LocalDateTime lockedUntil, EmailOutbox.Status status, LocalDateTime nextAttemptAt, String error);
+
+    /**
+     * Deletes at most batchSize sent or failed emails created before the given time, oldest first.
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM email_outbox
+            WHERE id IN (
+                SELECT id FROM email_outbox
+                WHERE status IN ('SENT', 'FAILED')
+                  AND created_at < :createdBefore
+                ORDER BY id
+                LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteFinishedBatch(LocalDateTime createdBefore, int batchSize);
+
+    /**
+     * Creation time of the oldest email still waiting to be sent, or null when the outbox is drained.
+     */
+    @Query("SELECT MIN(e.createdAt) FROM EmailOutbox e WHERE e.status = com.services.user_service.entity.EmailOutbox$Status.PENDING")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    long countByStatus(EmailOutbox.Status status);
+}
@@ -2,8 +2,10 @@ package com.services.user_service.repository;
 
 import com.services.user_service.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -12,12 +14,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
-    Boolean existsByEmail(String email);
-
     @Query("""
         SELECT u FROM User u
         LEFT JOIN FETCH u.roles
         WHERE u.id = :id
     """)
     Optional<User> findByIdWithRoles(Long id);
+
+    /**
+     * Replaces only the password hash (used to re-hash on login when the BCrypt strength changed).
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(Long id, String password);
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.services.user_service.repository;
 
 import com.services.user_service.entity.VerificationToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +17,37 @@ public interface VerificationTokenRepository extends JpaRepository<VerificationT
     Optional<VerificationToken> findByUserId(Long userId);
 
     void deleteByUserId(Long userId);
+
+    /**
+     * Creates the user's token, or replaces the existing one, in a single statement.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO verification_tokens (id, token, user_id, expiry_date, created_at)
+            VALUES (nextval('verification_tokens_seq'), :token, :userId, :expiryDate, now())
+            ON CONFLICT (user_id) DO UPDATE
+            SET token = EXCLUDED.token,
+                expiry_date = EXCLUDED.expiry_date,
+                created_at = EXCLUDED.created_at
+            """, nativeQuery = true)
+    int upsertForUser(Long userId, String token, LocalDateTime expiryDate);
+
+    /**
+     * Deletes at most batchSize tokens that expired before the given time, oldest first.
+     * (PostgreSQL has no DELETE ... LIMIT, hence the id sub-select over the expiry_date index.)
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM verification_tokens
+            WHERE id IN (
+                SELECT id FROM verification_tokens
+                WHERE expiry_date < :expiredBefore
+                ORDER BY expiry_date
+                LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteExpiredBatch(LocalDateTime expiredBefore, int batchSize);
+
+    @Query(value = "SELECT pg_total_relation_size('verification_tokens')", nativeQuery = true)
+    long tableSizeBytes();
 }
\ No newline at end of file
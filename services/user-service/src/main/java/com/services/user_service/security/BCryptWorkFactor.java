@@ -0,0 +1,44 @@
+package com.services.user_service.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the BCrypt strength for this host: the highest log-rounds whose hash time
+ * still fits the latency budget, up to a configured cap. Each extra round doubles the cost of a hash.
+ */
+public final class BCryptWorkFactor {
+
+    // Never go below Spring Security's default, however slow the host is
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final int SAMPLES = 3;
+
+    private BCryptWorkFactor() {
+    }
+
+    /**
+     * Stored hashes are re-hashed up to the strength picked here, and every replica has to verify
+     * them, so {@code maxStrength} should be what the slowest host can check within the budget.
+     */
+    public static int calibrate(Duration targetLatency, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode("calibration"); // warm-up
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLES; i++) {
+            probe.encode("calibration");
+        }
+        long estimate = (System.nanoTime() - start) / SAMPLES;
+
+        int strength = MIN_STRENGTH;
+        int limit = Math.min(maxStrength, MAX_STRENGTH);
+        while (strength < limit && estimate * 2 <= targetLatency.toNanos()) {
+            estimate *= 2;
+            strength++;
+        }
+        return strength;
+    }
+}
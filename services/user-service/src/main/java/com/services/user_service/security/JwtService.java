@@ -2,9 +2,11 @@ package com.services.user_service.security;
 
 import com.services.user_service.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -25,6 +27,33 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    private Key signKey;
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        // Key and parser are immutable and thread-safe, so build them once at startup
+        signKey = Keys.hmacShaKeyFor(secret.getBytes());
+        jwtParser = Jwts.parser()
+                .setSigningKey(signKey)
+                .build();
+    }
+
+    /**
+     * Verifies the signature and reads every claim we use in one parse.
+     * Throws if the token is malformed, tampered with or expired.
+     */
+    public ParsedToken parse(String token) {
+        Claims claims = extractAllClaims(token);
+        return new ParsedToken(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                (List<String>) claims.get("roles"),
+                claims.getExpiration()
+        );
+    }
+
     public String extractEmail(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -47,20 +76,17 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSignKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public Boolean validateToken(String token, String email) {
+        return validateToken(parse(token), email);
     }
 
-    public Boolean validateToken(String token, String email) {
-        final String tokenEmail = extractEmail(token);
-        return (tokenEmail.equals(email) && !isTokenExpired(token));
+    public boolean validateToken(ParsedToken token, String email) {
+        return token.getSubject() != null && token.getSubject().equals(email) && !token.isExpired();
     }
 
     // Old method - for backward compatibility (if needed)
@@ -82,17 +108,13 @@ public class JwtService {
     }
 
     private String createToken(Map<String, Object> claims, String email) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(email)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .signWith(signKey, SignatureAlgorithm.HS256)
                 .compact();
     }
-
-    private Key getSignKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-}
\ No newline at end of file
+}
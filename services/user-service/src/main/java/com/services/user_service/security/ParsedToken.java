@@ -0,0 +1,25 @@
+package com.services.user_service.security;
+
+import lombok.Value;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Claims of a verified JWT, read from a single parse.
+ */
+@Value
+public class ParsedToken {
+
+    String subject;
+
+    Long userId;
+
+    List<String> roles;
+
+    Date expiration;
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+}
@@ -0,0 +1,210 @@
+package com.services.user_service.service;
+
+import com.services.user_service.entity.EmailOutbox;
+import com.services.user_service.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the email outbox: claims due rows in batches, sends them over SMTP with bounded
+ * concurrency, and reschedules failures with exponential backoff until max-attempts.
+ * Delivery is at-least-once: an email whose lease lapses before it is marked sent is sent again.
+ * Rows are only settled under the lease that claimed them, so a dispatcher whose lease lapsed
+ * cannot reset a row another one has since sent.
+ *
+ * <p>Sends run on the applicationTaskExecutor (virtual threads when enabled); a semaphore keeps
+ * at most send-concurrency of them talking to the SMTP server at once.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor senders;
+    private final Semaphore sendPermits;
+    private final Timer sendTimer;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+
+    @Value("${application.mail.from:no-reply@landplatform.com}")
+    private String from;
+
+    @Value("${application.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${application.mail.outbox.lease:5m}")
+    private Duration lease;
+
+    @Value("${application.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${application.mail.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${application.mail.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository emailOutboxRepository,
+            JavaMailSender mailSender,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor senders,
+            @Value("${application.mail.outbox.send-concurrency:4}") int sendConcurrency
+    ) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.senders = senders;
+        this.sendPermits = new Semaphore(sendConcurrency);
+
+        this.sendTimer = Timer.builder("email.outbox.send")
+                .description("SMTP send time per email")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sent = Counter.builder("email.outbox.dispatched")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.retried = Counter.builder("email.outbox.dispatched")
+                .tag("result", "retry")
+                .register(meterRegistry);
+        this.failed = Counter.builder("email.outbox.dispatched")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest email still waiting to be sent")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.pending", pending, AtomicLong::get)
+                .description("Emails waiting to be sent")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.mail.outbox.poll-interval:1000}",
+            initialDelayString = "${application.mail.outbox.initial-delay:5000}")
+    public void dispatch() {
+        List<EmailOutbox> batch;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            // Short transaction: the lease, not a held row lock, protects the rows while they are sent
+            batch = transactionTemplate.execute(
+                    status -> emailOutboxRepository.claimBatch(now, now.plus(lease), batchSize));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            sendAll(batch);
+        } while (batch.size() == batchSize);
+
+        refreshBacklogMetrics();
+    }
+
+    private void sendAll(List<EmailOutbox> batch) {
+        List<Future<?>> sends = new ArrayList<>(batch.size());
+        try {
+            for (EmailOutbox email : batch) {
+                sendPermits.acquire();
+                try {
+                    sends.add(senders.submit(() -> {
+                        try {
+                            send(email);
+                        } finally {
+                            sendPermits.release();
+                        }
+                    }));
+                } catch (RuntimeException e) {
+                    sendPermits.release();
+                    throw e;
+                }
+            }
+            for (Future<?> send : sends) {
+                send.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // send() handles its own failures; anything else leaves the row to be retried once its lease lapses
+            log.error("Email send task failed", e.getCause());
+        }
+    }
+
+    private void send(EmailOutbox email) {
+        try {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(from);
+            message.setTo(email.getRecipient());
+            message.setSubject(email.getSubject());
+            message.setText(email.getBody());
+
+            sendTimer.record(() -> mailSender.send(message));
+
+            Integer marked = transactionTemplate.execute(status ->
+                    emailOutboxRepository.markSent(email.getId(), email.getLockedUntil(), LocalDateTime.now()));
+            if (marked == null || marked == 0) {
+                log.warn("Lease on email {} lapsed before it was marked sent; it may be sent again", email.getId());
+            }
+            sent.increment();
+        } catch (RuntimeException e) {
+            handleFailure(email, e);
+        }
+    }
+
+    private void handleFailure(EmailOutbox email, RuntimeException e) {
+        int attempts = email.getAttempts() + 1;
+        String error = e.getMessage() != null && e.getMessage().length() > 1000
+                ? e.getMessage().substring(0, 1000)
+                : e.getMessage();
+
+        if (attempts >= maxAttempts) {
+            log.error("Giving up on email {} to {} after {} attempts", email.getId(), email.getRecipient(), attempts, e);
+            transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.markFailed(
+                    email.getId(), email.getLockedUntil(), EmailOutbox.Status.FAILED, email.getNextAttemptAt(), error));
+            failed.increment();
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+        log.warn("Sending email {} failed (attempt {}), retrying at {}: {}", email.getId(), attempts, nextAttemptAt, error);
+        transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.markFailed(
+                email.getId(), email.getLockedUntil(), EmailOutbox.Status.PENDING, nextAttemptAt, error));
+        retried.increment();
+    }
+
+    /**
+     * initial-backoff doubled for every failed attempt, capped at max-backoff.
+     */
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void refreshBacklogMetrics() {
+        LocalDateTime oldest = emailOutboxRepository.findOldestPendingCreatedAt();
+        lagSeconds.set(oldest != null ? Math.max(Duration.between(oldest, LocalDateTime.now()).toSeconds(), 0) : 0);
+        pending.set(emailOutboxRepository.countByStatus(EmailOutbox.Status.PENDING));
+    }
+}
@@ -0,0 +1,72 @@
+package com.services.user_service.service;
+
+import com.services.user_service.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes sent and failed outbox emails once they are older than the retention period, in
+ * bounded batches like {@link VerificationTokenPurgeJob}, so email_outbox only grows with the backlog.
+ * Failed emails keep their body (and any verification link in it) until then.
+ */
+@Slf4j
+@Component
+public class EmailOutboxPurgeJob {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purged;
+
+    @Value("${application.mail.outbox.purge.retention:7d}")
+    private Duration retention;
+
+    @Value("${application.mail.outbox.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${application.mail.outbox.purge.max-batches:100}")
+    private int maxBatches;
+
+    public EmailOutboxPurgeJob(
+            EmailOutboxRepository emailOutboxRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        this.purged = Counter.builder("email.outbox.purged")
+                .description("Sent and failed emails deleted by the purge job")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.mail.outbox.purge.interval:3600000}",
+            initialDelayString = "${application.mail.outbox.purge.initial-delay:60000}")
+    public void purgeFinished() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(retention);
+        long total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = transactionTemplate.execute(
+                    status -> emailOutboxRepository.deleteFinishedBatch(createdBefore, batchSize));
+            int count = deleted != null ? deleted : 0;
+
+            total += count;
+            purged.increment(count);
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Purged {} sent or failed outbox emails", total);
+        }
+    }
+}
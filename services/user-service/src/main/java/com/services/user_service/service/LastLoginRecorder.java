@@ -0,0 +1,74 @@
+package com.services.user_service.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps login off the write path: last-login times are collected in memory and written
+ * in one JDBC batch every flush interval. Several logins of the same user between two
+ * flushes collapse into a single row update. Times not yet flushed are lost on a crash,
+ * which is acceptable for this column.
+ *
+ * <p>Flushes do not evict cached profiles: that would broadcast an invalidation per login and
+ * miss the cache on the {@code /me} that usually follows. A cached profile's lastLoginAt can
+ * therefore lag until the entry expires or the profile changes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginRecorder {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET last_login_at = ? WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void record(Long userId, LocalDateTime loginTime) {
+        pending.merge(userId, loginTime, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Scheduled(fixedDelayString = "${application.login.last-login.flush-interval:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginTime = pending.remove(userId);
+            if (loginTime != null) {
+                Timestamp timestamp = Timestamp.valueOf(loginTime);
+                batch.add(new Object[]{timestamp, userId, timestamp});
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            log.debug("Flushed last-login time of {} users", batch.size());
+        } catch (RuntimeException e) {
+            // Put the times back so the next flush retries them, unless a newer login arrived meanwhile
+            for (Object[] row : batch) {
+                record((Long) row[1], ((Timestamp) row[0]).toLocalDateTime());
+            }
+            log.warn("Failed to flush last-login times of {} users, will retry", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,43 @@
+package com.services.user_service.service;
+
+import com.services.user_service.entity.EmailOutbox;
+import com.services.user_service.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Queues verification emails in the outbox. Must be called inside the transaction that
+ * creates the token, so the email exists if and only if the token does.
+ */
+@Component
+@RequiredArgsConstructor
+public class VerificationEmailService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Value("${app.base-url:http://localhost:8081}")
+    private String baseUrl;
+
+    public void enqueue(String recipient, String fullName, String token) {
+        EmailOutbox email = new EmailOutbox();
+        email.setRecipient(recipient);
+        email.setSubject("Verify your email address");
+        email.setBody("""
+                Hello %s,
+
+                Please verify your email address by opening the link below:
+
+                %s/api/auth/verify-email?token=%s
+
+                The link expires in 24 hours.
+                """.formatted(fullName, baseUrl, token));
+        email.setStatus(EmailOutbox.Status.PENDING);
+        email.setAttempts(0);
+        email.setNextAttemptAt(LocalDateTime.now());
+
+        emailOutboxRepository.save(email);
+    }
+}
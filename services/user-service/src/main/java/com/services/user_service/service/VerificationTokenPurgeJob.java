@@ -0,0 +1,81 @@
+package com.services.user_service.service;
+
+import com.services.user_service.repository.VerificationTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes expired verification tokens in bounded batches, each in its own short transaction,
+ * so a large backlog never turns into one long-running DELETE holding locks.
+ */
+@Slf4j
+@Component
+public class VerificationTokenPurgeJob {
+
+    private final VerificationTokenRepository verificationTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purged;
+    private final AtomicLong tableRows = new AtomicLong();
+    private final AtomicLong tableBytes = new AtomicLong();
+
+    @Value("${application.verification-token.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${application.verification-token.purge.max-batches:100}")
+    private int maxBatches;
+
+    public VerificationTokenPurgeJob(
+            VerificationTokenRepository verificationTokenRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.verificationTokenRepository = verificationTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        this.purged = Counter.builder("verification.tokens.purged")
+                .description("Expired verification tokens deleted by the purge job")
+                .register(meterRegistry);
+        Gauge.builder("verification.tokens.table.rows", tableRows, AtomicLong::get)
+                .description("Rows in verification_tokens after the last purge run")
+                .register(meterRegistry);
+        Gauge.builder("verification.tokens.table.size", tableBytes, AtomicLong::get)
+                .description("Size of verification_tokens (with indexes) after the last purge run")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.verification-token.purge.interval:3600000}",
+            initialDelayString = "${application.verification-token.purge.initial-delay:60000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = transactionTemplate.execute(
+                    status -> verificationTokenRepository.deleteExpiredBatch(now, batchSize));
+            int count = deleted != null ? deleted : 0;
+
+            total += count;
+            purged.increment(count);
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        tableRows.set(verificationTokenRepository.count());
+        tableBytes.set(verificationTokenRepository.tableSizeBytes());
+
+        if (total > 0) {
+            log.info("Purged {} expired verification tokens", total);
+        }
+    }
+}
@@ -1,20 +1,30 @@
 package com.services.user_service.service.impl;
 
+import com.services.user_service.cache.UserProfileCache;
 import com.services.user_service.dto.*;
 import com.services.user_service.entity.User;
 import com.services.user_service.entity.UserRole;
 import com.services.user_service.entity.VerificationToken;
 import com.services.user_service.enums.Role;
+import com.services.user_service.event.UserProfileChangedEvent;
 import com.services.user_service.repository.UserRepository;
-import com.services.user_service.repository.UserRoleRepository;
 import com.services.user_service.repository.VerificationTokenRepository;
 import com.services.user_service.security.JwtService;
+import com.services.user_service.security.PasswordHashingService;
+import com.services.user_service.service.LastLoginRecorder;
 import com.services.user_service.service.UserService;
+import com.services.user_service.service.VerificationEmailService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -23,24 +33,31 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final UserRoleRepository userRoleRepository;
     private final VerificationTokenRepository verificationTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final UserProfileCache userProfileCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VerificationEmailService verificationEmailService;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    @Transactional
     public UserResponse signup(SignupRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already registered");
-        }
+        // Hashed before the transaction starts: waiting for the hashing executor must not hold a connection
+        String passwordHash = passwordHashingService.encode(request.getPassword());
+        return transactionTemplate.execute(status -> createUser(request, passwordHash));
+    }
 
+    private UserResponse createUser(SignupRequest request, String passwordHash) {
+        // No existsByEmail pre-check: the unique index on email decides, also for concurrent signups
         User user = new User();
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHash);
         user.setFullName(request.getFullName());
         user.setPhoneNumber(request.getPhoneNumber());
         user.setIsVerified(false);
@@ -55,8 +72,18 @@ public class UserServiceImpl implements UserService {
         verificationToken.setExpiryDate(LocalDateTime.now().plusHours(24));
         verificationTokenRepository.save(verificationToken);
 
-        // TODO: Send verification email
-        // emailService.sendVerificationEmail(savedUser.getEmail(), token);
+        // Both inserts go out in this single flush (ids come from the pooled sequences)
+        try {
+            verificationTokenRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e, User.EMAIL_CONSTRAINT)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already registered");
+            }
+            throw e;
+        }
+
+        // Sent by EmailOutboxDispatcher once this transaction commits
+        verificationEmailService.enqueue(savedUser.getEmail(), savedUser.getFullName(), token);
 
         return mapToUserResponse(savedUser);
     }
@@ -66,7 +93,7 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new BadCredentialsException("Invalid email or password");
         }
 
@@ -74,9 +101,15 @@ public class UserServiceImpl implements UserService {
             throw new RuntimeException("Account is deactivated");
         }
 
+        // The raw password is only available here, so this is where an old, weaker hash gets replaced
+        if (passwordHashingService.upgradeEncoding(user.getPassword())) {
+            log.info("Re-hashing password of user {} with the current BCrypt strength", user.getId());
+            userRepository.updatePassword(user.getId(), passwordHashingService.encode(request.getPassword()));
+        }
+
+        // Read-only path: the token is not stored, and the last-login time is written in batches
         String token = jwtService.generateToken(user);
-        user.setJwt(token);
-        userRepository.save(user);
+        lastLoginRecorder.record(user.getId(), LocalDateTime.now());
 
         Set<Role> roles = user.getRoles().stream()
                 .map(UserRole::getRole)
@@ -92,8 +125,10 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        // Check if user already has this role
-        if (userRoleRepository.existsByUserIdAndRole(userId, role)) {
+        // Check if user already has this role (roles are loaded eagerly with the user)
+        boolean hasRole = user.getRoles().stream()
+                .anyMatch(userRole -> userRole.getRole() == role);
+        if (hasRole) {
             throw new RuntimeException("User already has this role");
         }
 
@@ -102,24 +137,23 @@ public class UserServiceImpl implements UserService {
         userRole.setRole(role);
         user.addRole(userRole);
 
-        // Generate new JWT token with updated roles
-        String newToken = jwtService.generateToken(user);
-        user.setJwt(newToken);
-
         userRepository.save(user);
+        eventPublisher.publishEvent(UserProfileChangedEvent.of(userId));
 
-        // Refresh user to get updated roles
-        user = userRepository.findById(userId).get();
-
-        return mapToUserResponse(user);
+        // The in-memory user already holds the new role, so no re-read is needed
+        UserResponse response = mapToUserResponse(user);
+        response.setJwtToken(jwtService.generateToken(user));
+        return response;
     }
 
     @Override
     public UserResponse getCurrentUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        return userProfileCache.get(userId, () -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
 
-        return mapToUserResponse(user);
+            return mapToUserResponse(user);
+        });
     }
 
     @Override
@@ -137,6 +171,7 @@ public class UserServiceImpl implements UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserProfileChangedEvent.of(userId));
 
         return mapToUserResponse(updatedUser);
     }
@@ -154,6 +189,7 @@ public class UserServiceImpl implements UserService {
         User user = verificationToken.getUser();
         user.setIsVerified(true);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserProfileChangedEvent.of(user.getId()));
 
         // Delete the used token
         verificationTokenRepository.delete(verificationToken);
@@ -169,20 +205,17 @@ public class UserServiceImpl implements UserService {
             throw new RuntimeException("Email already verified");
         }
 
-        // Delete old token if exists
-        verificationTokenRepository.findByUserId(user.getId())
-                .ifPresent(verificationTokenRepository::delete);
-
-        // Create new token
+        // Replace the old token (if any) with a new one in a single upsert
         String token = UUID.randomUUID().toString();
-        VerificationToken verificationToken = new VerificationToken();
-        verificationToken.setToken(token);
-        verificationToken.setUser(user);
-        verificationToken.setExpiryDate(LocalDateTime.now().plusHours(24));
-        verificationTokenRepository.save(verificationToken);
+        verificationTokenRepository.upsertForUser(user.getId(), token, LocalDateTime.now().plusHours(24));
+
+        verificationEmailService.enqueue(user.getEmail(), user.getFullName(), token);
+    }
 
-        // TODO: Send verification email
-        // emailService.sendVerificationEmail(user.getEmail(), token);
+    private static boolean isUniqueViolation(DataIntegrityViolationException e, String constraint) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && "23505".equals(violation.getSQLState())
+                && constraint.equalsIgnoreCase(violation.getConstraintName());
     }
 
     private UserResponse mapToUserResponse(User user) {
@@ -192,10 +225,10 @@ public class UserServiceImpl implements UserService {
         response.setFullName(user.getFullName());
         response.setPhoneNumber(user.getPhoneNumber());
         response.setIsVerified(user.getIsVerified());
-        response.setJwtToken(user.getJwt());
         response.setIsActive(user.getIsActive());
         response.setCreatedAt(user.getCreatedAt());
         response.setUpdatedAt(user.getUpdatedAt());
+        response.setLastLoginAt(user.getLastLoginAt());
 
         Set<Role> roles = user.getRoles().stream()
                 .map(UserRole::getRole)
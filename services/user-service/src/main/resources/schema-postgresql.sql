@@ -0,0 +1,7 @@
+-- Runs after Hibernate has updated the schema (spring.jpa.defer-datasource-initialization).
+-- Everything here must be idempotent: it is executed on every startup.
+
+-- Databases from before the pooled sequences are upgraded once by db/pooled-id-sequences.sql
+
+-- The unique constraint on users.email used to have a generated name; it is now uk_users_email
+ALTER TABLE users DROP CONSTRAINT IF EXISTS uk_6dotkott2kjsp8vw4d0m25fb7;
@@ -0,0 +1,122 @@
+package com.services.user_service.benchmark;
+
+import com.services.user_service.UserServiceApplication;
+import com.services.user_service.dto.LoginRequest;
+import com.services.user_service.dto.SignupRequest;
+import com.services.user_service.entity.User;
+import com.services.user_service.repository.UserRepository;
+import com.services.user_service.security.JwtService;
+import com.services.user_service.security.PasswordHashingService;
+import com.services.user_service.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logins/sec against a real Postgres (Testcontainers, so Docker is required).
+ *
+ * "write-per-login" replays the previous login path: look the user up, check the password,
+ * mint the token, then store it on the user with a full-row save. "read-only" is the current
+ * UserService.login, which only reads and leaves the last-login time to the batch writer.
+ * BCrypt strength is pinned to the minimum so the database work is what gets measured.
+ *
+ * Run with: ./mvnw -P benchmark test-compile exec:exec -Djmh.include=LoginBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final int USERS = 100;
+    private static final String PASSWORD = "benchmark-password";
+
+    @Param({"write-per-login", "read-only"})
+    public String path;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserRepository userRepository;
+    private PasswordHashingService passwordHashingService;
+    private JwtService jwtService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+
+        context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.cloud.config.enabled=false",
+                        "eureka.client.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "application.password.bcrypt.strength=4")
+                .run();
+
+        userService = context.getBean(UserService.class);
+        userRepository = context.getBean(UserRepository.class);
+        passwordHashingService = context.getBean(PasswordHashingService.class);
+        jwtService = context.getBean(JwtService.class);
+
+        for (int i = 0; i < USERS; i++) {
+            SignupRequest signup = new SignupRequest();
+            signup.setEmail(email(i));
+            signup.setPassword(PASSWORD);
+            signup.setFullName("Benchmark User " + i);
+            userService.signup(signup);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+        int next;
+    }
+
+    @Benchmark
+    public Object login(Caller caller) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email(caller.next++ % USERS));
+        request.setPassword(PASSWORD);
+
+        if ("read-only".equals(path)) {
+            return userService.login(request);
+        }
+        return writePerLogin(request);
+    }
+
+    private Object writePerLogin(LoginRequest request) {
+        User user = userRepository.findByEmail(request.getEmail()).orElseThrow();
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+            throw new IllegalStateException("Invalid benchmark credentials");
+        }
+
+        String token = jwtService.generateToken(user);
+        // The stored token column is gone; touching updatedAt forces the same full-row UPDATE
+        user.setUpdatedAt(LocalDateTime.now());
+        userRepository.save(user);
+        return token;
+    }
+
+    private static String email(int i) {
+        return "benchmark-" + i + "@example.com";
+    }
+}
@@ -0,0 +1,106 @@
+package com.services.user_service.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.services.user_service.dto.SignupRequest;
+import com.services.user_service.entity.EmailOutbox;
+import com.services.user_service.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox dispatch against Postgres (Testcontainers, for FOR UPDATE SKIP LOCKED) and a GreenMail SMTP server.
+ * Skipped when no Docker environment is available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        // The test drives the dispatcher itself
+        "application.mail.outbox.initial-delay=3600000",
+        "application.mail.outbox.poll-interval=3600000",
+        "application.password.bcrypt.strength=4"
+})
+class EmailOutboxDispatcherTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Test
+    void signupVerificationEmailIsSentByDispatcher() throws Exception {
+        SignupRequest request = new SignupRequest();
+        request.setEmail("outbox-sent@example.com");
+        request.setPassword("outbox-password");
+        request.setFullName("Outbox User");
+        userService.signup(request);
+
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        dispatcher.dispatch();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("outbox-sent@example.com");
+        assertThat(GreenMailUtil.getBody(received[0])).contains("/api/auth/verify-email?token=");
+        assertThat(emailOutboxRepository.countByStatus(EmailOutbox.Status.PENDING)).isZero();
+        // The sent row no longer holds the verification link
+        assertThat(emailOutboxRepository.findAll())
+                .filteredOn(email -> email.getRecipient().equals("outbox-sent@example.com"))
+                .singleElement()
+                .satisfies(email -> assertThat(email.getBody()).isEmpty());
+    }
+
+    @Test
+    void failedSendIsRescheduledWithBackoff() {
+        EmailOutbox email = new EmailOutbox();
+        email.setRecipient("not a valid address");
+        email.setSubject("Undeliverable");
+        email.setBody("This cannot be sent");
+        email.setNextAttemptAt(LocalDateTime.now());
+        Long id = emailOutboxRepository.save(email).getId();
+
+        dispatcher.dispatch();
+
+        EmailOutbox retried = emailOutboxRepository.findById(id).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(retried.getLockedUntil()).isNull();
+        assertThat(retried.getLastError()).isNotBlank();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+}